@@ -40,11 +40,11 @@ public final class Actions {
 	 * @param <T1>
 	 *            The type of the parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action1<T1> {
+	public static abstract class Action1<T1> extends TypeArguments.Template {
 		public abstract void apply(T1 t1);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 	}
 
@@ -56,15 +56,15 @@ public final class Actions {
 	 * @param <T2>
 	 *            The type of the second parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action2<T1, T2> {
+	public static abstract class Action2<T1, T2> extends TypeArguments.Template {
 		public abstract void apply(T1 t1, T2 t2);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 	}
 
@@ -78,19 +78,19 @@ public final class Actions {
 	 * @param <T3>
 	 *            The type of the third parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action3<T1, T2, T3> {
+	public static abstract class Action3<T1, T2, T3> extends TypeArguments.Template {
 		public abstract void apply(T1 t1, T2 t2, T3 t3);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 	}
 
@@ -106,23 +106,23 @@ public final class Actions {
 	 * @param <T4>
 	 *            The type of the four parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action4<T1, T2, T3, T4> {
+	public static abstract class Action4<T1, T2, T3, T4> extends TypeArguments.Template {
 		public abstract void apply(T1 t1, T2 t2, T3 t3, T4 t4);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 	}
 
@@ -140,27 +140,27 @@ public final class Actions {
 	 * @param <T5>
 	 *            The type of the five parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action5<T1, T2, T3, T4, T5> {
+	public static abstract class Action5<T1, T2, T3, T4, T5> extends TypeArguments.Template {
 		public abstract void apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 	}
 
@@ -180,31 +180,31 @@ public final class Actions {
 	 * @param <T6>
 	 *            The type of the six parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action6<T1, T2, T3, T4, T5, T6> {
+	public static abstract class Action6<T1, T2, T3, T4, T5, T6> extends TypeArguments.Template {
 		public abstract void apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 
 		public final Class<?> getParameterType6() {
-			return TypeArguments.getClassFor(getClass(), 5);
+			return typeArgument(5);
 		}
 	}
 
@@ -226,35 +226,35 @@ public final class Actions {
 	 * @param <T7>
 	 *            The type of the seven parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action7<T1, T2, T3, T4, T5, T6, T7> {
+	public static abstract class Action7<T1, T2, T3, T4, T5, T6, T7> extends TypeArguments.Template {
 		public abstract void apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 
 		public final Class<?> getParameterType6() {
-			return TypeArguments.getClassFor(getClass(), 5);
+			return typeArgument(5);
 		}
 
 		public final Class<?> getParameterType7() {
-			return TypeArguments.getClassFor(getClass(), 6);
+			return typeArgument(6);
 		}
 	}
 
@@ -278,39 +278,63 @@ public final class Actions {
 	 * @param <T8>
 	 *            The type of the eight parameter of the method that this delegate encapsulates.
 	 */
-	public static abstract class Action8<T1, T2, T3, T4, T5, T6, T7, T8> {
+	public static abstract class Action8<T1, T2, T3, T4, T5, T6, T7, T8> extends TypeArguments.Template {
 		public abstract void apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 
 		public final Class<?> getParameterType6() {
-			return TypeArguments.getClassFor(getClass(), 5);
+			return typeArgument(5);
 		}
 
 		public final Class<?> getParameterType7() {
-			return TypeArguments.getClassFor(getClass(), 6);
+			return typeArgument(6);
 		}
 
 		public Class<?> getParameterType8() {
-			return TypeArguments.getClassFor(getClass(), 7);
+			return typeArgument(7);
 		}
 	}
+
+	/**
+	 * Encapsulates a method that has a single {@code int} parameter and does not return a value, without boxing the
+	 * argument.
+	 */
+	public static abstract class IntAction1 {
+		public abstract void apply(int t1);
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code long} parameter and does not return a value, without boxing the
+	 * argument.
+	 */
+	public static abstract class LongAction1 {
+		public abstract void apply(long t1);
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code double} parameter and does not return a value, without boxing the
+	 * argument.
+	 */
+	public static abstract class DoubleAction1 {
+		public abstract void apply(double t1);
+	}
 }
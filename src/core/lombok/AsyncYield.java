@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2011-2012 Philipp Eichhorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package lombok;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs a method containing {@link Yield#yield(Object) yield()} on a separate producer thread, so that blocking work
+ * between two yields overlaps with the work of the consumer.
+ * <p>
+ * The producer thread is started by the first call to {@code hasNext()} and hands the yielded elements to the consumer
+ * through a bounded buffer. Closing the returned iterator (it implements {@link java.io.Closeable}) stops the producer
+ * and closes the underlying yielder. An iterator that is abandoned without being closed stops its producer as soon as it
+ * got garbage collected and the buffer is full.
+ * <p>
+ * With lombok:
+ * 
+ * <pre>
+ * &#64;AsyncYield(capacity = 256, batch = 16)
+ * public Iterator&lt;Page&gt; pages(final Client client) {
+ * 	for (int n = 0; client.hasPage(n); n++)
+ * 		yield(client.fetchPage(n));
+ * }
+ * </pre>
+ * 
+ * Vanilla Java:
+ * 
+ * <pre>
+ * public Iterator&lt;Page&gt; pages(final Client client) {
+ * 	class $YielderPages implements java.util.Iterator&lt;Page&gt;, java.io.Closeable {
+ * 		// the usual yield state machine
+ * 	}
+ * 	return lombok.Yield.asyncIterator(new $YielderPages(), 256, 16);
+ * }
+ * </pre>
+ */
+@Target(METHOD)
+@Retention(SOURCE)
+public @interface AsyncYield {
+	/**
+	 * Specifies the maximum number of elements buffered between producer and consumer. Default is {@code 64}.
+	 */
+	int capacity() default 64;
+
+	/**
+	 * Specifies the number of elements the producer hands over at once. Default is {@code 1}, larger values reduce
+	 * the synchronization overhead. Whenever the buffer runs empty, fewer elements are handed over, so a waiting
+	 * consumer never waits for a batch to fill up.
+	 */
+	int batch() default 1;
+}
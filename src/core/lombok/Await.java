@@ -25,6 +25,7 @@ import static java.lang.annotation.ElementType.*;
 import static java.lang.annotation.RetentionPolicy.SOURCE;
 
 import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Lock Conditions
@@ -82,4 +83,43 @@ public @interface Await {
 	 * The method must return a {@code boolean} and may not require any parameters.
 	 */
 	String conditionMethod();
+
+	/**
+	 * Maximum time to wait for the lock and again for the condition, in {@link #unit()}. A negative value, which is
+	 * the default, waits forever.
+	 * <p>
+	 * If the time elapsed, {@link #onTimeout()} is called or {@link #timeoutException()} is thrown.
+	 */
+	long timeout() default -1;
+
+	/**
+	 * Specifies the unit of {@link #timeout()}, default is {@link java.util.concurrent.TimeUnit MILLISECONDS}.
+	 */
+	TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * Name of a method, that accepts the same arguments as the annotated method. Its result is returned if the
+	 * {@link #timeout()} elapsed.
+	 */
+	String onTimeout() default "";
+
+	/**
+	 * Specifies the exception thrown if the {@link #timeout()} elapsed and no {@link #onTimeout()} method is given.
+	 * It needs a constructor that accepts a {@code String} message. Default is {@code IllegalStateException.class}.
+	 */
+	Class<? extends RuntimeException> timeoutException() default IllegalStateException.class;
+
+	/**
+	 * Records acquisitions, contentions, wait and hold times of the lock in {@link lombok.LockMetrics}, default is
+	 * {@code false}. The time spent awaiting the condition does not count as hold time.
+	 */
+	boolean metrics() default false;
+
+	/**
+	 * Acquire the lock via {@code lockInterruptibly()} and let the {@link InterruptedException} propagate instead of
+	 * wrapping it in a {@link RuntimeException}, default is {@code false}.
+	 * <p>
+	 * The annotated method has to declare {@code throws InterruptedException}.
+	 */
+	boolean interruptible() default false;
 }
@@ -81,4 +81,25 @@ public @interface AwaitBeforeAndSignalAfter {
 	 * The method must return a {@code boolean} and may not require any parameters.
 	 */
 	String awaitConditionMethod();
+
+	/**
+	 * Wake up all threads waiting on the signal-condition using {@code signalAll()}, default is {@code false}.
+	 */
+	boolean signalAll() default false;
+
+	/**
+	 * Only signal if {@code ReentrantLock.hasWaiters(signalCondition)} reports waiting threads, default is
+	 * {@code false}.
+	 * <p>
+	 * Requires the lock to be a {@link java.util.concurrent.locks.ReentrantLock ReentrantLock}.
+	 */
+	boolean signalIfWaiters() default false;
+
+	/**
+	 * Acquire the lock via {@code lockInterruptibly()} and let the {@link InterruptedException} propagate instead of
+	 * wrapping it in a {@link RuntimeException}, default is {@code false}.
+	 * <p>
+	 * The annotated method has to declare {@code throws InterruptedException}.
+	 */
+	boolean interruptible() default false;
 }
@@ -160,6 +160,51 @@ public @interface Builder {
 	 */
 	boolean allowReset() default false;
 
+	/**
+	 * <p>Instruct lombok to hand the collections and maps the builder filled over to the built object instead of copying
+	 * them element by element, the builder continues with fresh ones afterwards. This way no state is shared between
+	 * the built objects, even if the builder is reused.</p>
+	 * <p><b>Note:</b> Final collection fields are only handed over if the class declares no constructor of its own, since
+	 * those constructors would rely on the field initializer.</p>
+	 */
+	boolean transferCollections() default false;
+
+	/**
+	 * <p>Instruct lombok to generate a {@code reset()} method (see {@link #allowReset()}) and an additional
+	 * {@code reusable<TypeName>()} method, that hands out a thread-local builder instance after resetting it. This way
+	 * constructing an object at a high rate does not allocate a new builder each time. Defaults that are literals are
+	 * evaluated only once, and final collection or map fields that are initialized empty are cleared on reset instead of
+	 * being created anew.</p>
+	 * <p><b>Note:</b> The builder returned by {@code reusable<TypeName>()} must not be kept or passed to other threads,
+	 * the next call on the same thread resets it. This mode is not available for generic types.</p>
+	 */
+	boolean reusable() default false;
+
+	/**
+	 * <p>Instruct lombok to generate two static {@code buildAll(...)} methods, that take one array per builder field and
+	 * construct one object per index in a single loop, all through the same builder instance. One of them creates the
+	 * result array sized after the first field array, the other fills a given presized array.</p>
+	 * <p><b>Note:</b> Every field array has to be at least as long as the result array. This mode is not available for
+	 * generic types.</p>
+	 */
+	boolean buildAll() default false;
+
+	/**
+	 * Use this on collection or map fields in a {@link Builder @Builder}-annotated class to presize the buffer the
+	 * builder collects the elements in, so it does not grow by repeated resizing. The field has to be initialized with
+	 * a {@code new java.util.ArrayList}, {@code HashSet}, {@code HashMap}, {@code LinkedHashSet} or
+	 * {@code LinkedHashMap} without arguments, the buffer is then created as the same type with the given capacity.
+	 * On any other field a warning is issued and the annotation is ignored.
+	 */
+	@Target(FIELD)
+	@Retention(SOURCE)
+	public static @interface Capacity {
+		/**
+		 * The expected number of elements.
+		 */
+		int value();
+	}
+
 	/**
 	 * <p>
 	 * Use this on methods in a {@link Builder @Builder}-annotated class to specify extensions for the generated
@@ -46,23 +46,42 @@ import java.lang.annotation.*;
  * 
  * <pre>
  * int test1() {
- * 	return AccessController.doPrivileged(new PrivilegedAction&lt;Integer&gt;() {
- * 		public Integer run() {
- * 			// something
- * 			return 0;
- * 		}
- * 	});
+ * 	if (System.getSecurityManager() == null) {
+ * 		return $test1();
+ * 	} else {
+ * 		return AccessController.doPrivileged(new PrivilegedAction&lt;Integer&gt;() {
+ * 			public Integer run() {
+ * 				return $test1();
+ * 			}
+ * 		});
+ * 	}
  * }
  * 
  * void test2() {
- * 	AccessController.doPrivileged(new PrivilegedAction&lt;Void&gt;() {
- * 		public Void run() {
- * 			// something else
- * 			return null;
- * 		}
- * 	});
+ * 	if (System.getSecurityManager() == null) {
+ * 		$test2();
+ * 	} else {
+ * 		AccessController.doPrivileged(new PrivilegedAction&lt;Void&gt;() {
+ * 			public Void run() {
+ * 				$test2();
+ * 				return null;
+ * 			}
+ * 		});
+ * 	}
+ * }
+ * 
+ * private int $test1() {
+ * 	// something
+ * 	return 0;
+ * }
+ * 
+ * private void $test2() {
+ * 	// something else
  * }
  * </pre>
+ * 
+ * If the method declares thrown exceptions, a {@code PrivilegedExceptionAction} is used instead and the exceptions are
+ * unwrapped from the {@code PrivilegedActionException}.
  */
 @Target(METHOD)
 @Retention(SOURCE)
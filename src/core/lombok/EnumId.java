@@ -34,7 +34,18 @@ import java.lang.annotation.*;
  *     public static ENUM_TYPE findByFIELD_NAME(FIELD_TYPE FIELD_NAME)
  * </pre>
  * 
- * will be generated for each annotated field.
+ * will be generated for each annotated field. Since throwing an exception can be quite expensive if misses are to be expected,
+ * the non-throwing variants
+ * 
+ * <pre>
+ *     public static ENUM_TYPE findByFIELD_NAMEOrNull(FIELD_TYPE FIELD_NAME)
+ *     public static ENUM_TYPE findByFIELD_NAMEOrDefault(FIELD_TYPE FIELD_NAME, ENUM_TYPE fallback)
+ * </pre>
+ * 
+ * will be generated as well. The lookup itself only lives in {@code findByFIELD_NAMEOrNull}, the other two methods delegate to it.
+ * <p>
+ * If the annotated field is a {@code String} and every enum constant passes a string literal as its id, the lookup
+ * gets compiled into a {@code switch} over the length and the characters of the ids instead of a {@code HashMap}.
  */
 @Target(FIELD)
 @Retention(SOURCE)
@@ -21,8 +21,12 @@
  */
 package lombok;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
- * Collection of function templates.
+ * Collection of function templates and combinators to compose them.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Functions {
@@ -33,11 +37,11 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function0<R> {
+	public static abstract class Function0<R> extends TypeArguments.Template {
 		public abstract R apply();
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 	}
 
@@ -49,15 +53,15 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function1<T1, R> {
+	public static abstract class Function1<T1, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1);
 
-		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 1);
+		public Class<?> getReturnType() {
+			return typeArgument(1);
 		}
 
-		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+		public Class<?> getParameterType1() {
+			return typeArgument(0);
 		}
 	}
 
@@ -71,19 +75,19 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function2<T1, T2, R> {
+	public static abstract class Function2<T1, T2, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1, T2 t2);
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 	}
 
@@ -99,23 +103,23 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function3<T1, T2, T3, R> {
+	public static abstract class Function3<T1, T2, T3, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1, T2 t2, T3 t3);
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 	}
 
@@ -133,27 +137,27 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function4<T1, T2, T3, T4, R> {
+	public static abstract class Function4<T1, T2, T3, T4, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1, T2 t2, T3 t3, T4 t4);
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 	}
 
@@ -173,31 +177,31 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function5<T1, T2, T3, T4, T5, R> {
+	public static abstract class Function5<T1, T2, T3, T4, T5, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5);
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 5);
+			return typeArgument(5);
 		}
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 	}
 
@@ -219,35 +223,35 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function6<T1, T2, T3, T4, T5, T6, R> {
+	public static abstract class Function6<T1, T2, T3, T4, T5, T6, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6);
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 6);
+			return typeArgument(6);
 		}
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 
 		public final Class<?> getParameterType6() {
-			return TypeArguments.getClassFor(getClass(), 5);
+			return typeArgument(5);
 		}
 	}
 
@@ -271,39 +275,39 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function7<T1, T2, T3, T4, T5, T6, T7, R> {
+	public static abstract class Function7<T1, T2, T3, T4, T5, T6, T7, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7);
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 7);
+			return typeArgument(7);
 		}
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 
 		public final Class<?> getParameterType6() {
-			return TypeArguments.getClassFor(getClass(), 5);
+			return typeArgument(5);
 		}
 
 		public final Class<?> getParameterType7() {
-			return TypeArguments.getClassFor(getClass(), 6);
+			return typeArgument(6);
 		}
 	}
 
@@ -329,43 +333,415 @@ public final class Functions {
 	 * @param <R>
 	 *            The type of the return value of the method that this delegate encapsulates.
 	 */
-	public static abstract class Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> {
+	public static abstract class Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> extends TypeArguments.Template {
 		public abstract R apply(T1 t1, T2 t2, T3 t3, T4 t4, T5 t5, T6 t6, T7 t7, T8 t8);
 
 		public final Class<?> getReturnType() {
-			return TypeArguments.getClassFor(getClass(), 8);
+			return typeArgument(8);
 		}
 
 		public final Class<?> getParameterType1() {
-			return TypeArguments.getClassFor(getClass(), 0);
+			return typeArgument(0);
 		}
 
 		public final Class<?> getParameterType2() {
-			return TypeArguments.getClassFor(getClass(), 1);
+			return typeArgument(1);
 		}
 
 		public final Class<?> getParameterType3() {
-			return TypeArguments.getClassFor(getClass(), 2);
+			return typeArgument(2);
 		}
 
 		public final Class<?> getParameterType4() {
-			return TypeArguments.getClassFor(getClass(), 3);
+			return typeArgument(3);
 		}
 
 		public final Class<?> getParameterType5() {
-			return TypeArguments.getClassFor(getClass(), 4);
+			return typeArgument(4);
 		}
 
 		public final Class<?> getParameterType6() {
-			return TypeArguments.getClassFor(getClass(), 5);
+			return typeArgument(5);
 		}
 
 		public final Class<?> getParameterType7() {
-			return TypeArguments.getClassFor(getClass(), 6);
+			return typeArgument(6);
 		}
 
 		public Class<?> getParameterType8() {
-			return TypeArguments.getClassFor(getClass(), 7);
+			return typeArgument(7);
+		}
+	}
+
+	/**
+	 * Encapsulates a method that has no parameters and returns an {@code int} value without boxing it.
+	 */
+	public static abstract class ToIntFunction0 {
+		public abstract int apply();
+	}
+
+	/**
+	 * Encapsulates a method that has no parameters and returns a {@code long} value without boxing it.
+	 */
+	public static abstract class ToLongFunction0 {
+		public abstract long apply();
+	}
+
+	/**
+	 * Encapsulates a method that has no parameters and returns a {@code double} value without boxing it.
+	 */
+	public static abstract class ToDoubleFunction0 {
+		public abstract double apply();
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code int} parameter and returns a value of the type specified by the R
+	 * parameter, without boxing the argument.
+	 * 
+	 * @param <R>
+	 *            The type of the return value of the method that this delegate encapsulates.
+	 */
+	public static abstract class IntFunction1<R> extends TypeArguments.Template {
+		public abstract R apply(int t1);
+
+		public final Class<?> getReturnType() {
+			return typeArgument(0);
+		}
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code long} parameter and returns a value of the type specified by the R
+	 * parameter, without boxing the argument.
+	 * 
+	 * @param <R>
+	 *            The type of the return value of the method that this delegate encapsulates.
+	 */
+	public static abstract class LongFunction1<R> extends TypeArguments.Template {
+		public abstract R apply(long t1);
+
+		public final Class<?> getReturnType() {
+			return typeArgument(0);
+		}
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code double} parameter and returns a value of the type specified by the R
+	 * parameter, without boxing the argument.
+	 * 
+	 * @param <R>
+	 *            The type of the return value of the method that this delegate encapsulates.
+	 */
+	public static abstract class DoubleFunction1<R> extends TypeArguments.Template {
+		public abstract R apply(double t1);
+
+		public final Class<?> getReturnType() {
+			return typeArgument(0);
+		}
+	}
+
+	/**
+	 * Encapsulates a method that has a single parameter and returns an {@code int} value without boxing it.
+	 * 
+	 * @param <T1>
+	 *            The type of the parameter of the method that this delegate encapsulates.
+	 */
+	public static abstract class ToIntFunction1<T1> extends TypeArguments.Template {
+		public abstract int apply(T1 t1);
+
+		public final Class<?> getParameterType1() {
+			return typeArgument(0);
+		}
+	}
+
+	/**
+	 * Encapsulates a method that has a single parameter and returns a {@code long} value without boxing it.
+	 * 
+	 * @param <T1>
+	 *            The type of the parameter of the method that this delegate encapsulates.
+	 */
+	public static abstract class ToLongFunction1<T1> extends TypeArguments.Template {
+		public abstract long apply(T1 t1);
+
+		public final Class<?> getParameterType1() {
+			return typeArgument(0);
+		}
+	}
+
+	/**
+	 * Encapsulates a method that has a single parameter and returns a {@code double} value without boxing it.
+	 * 
+	 * @param <T1>
+	 *            The type of the parameter of the method that this delegate encapsulates.
+	 */
+	public static abstract class ToDoubleFunction1<T1> extends TypeArguments.Template {
+		public abstract double apply(T1 t1);
+
+		public final Class<?> getParameterType1() {
+			return typeArgument(0);
+		}
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code int} parameter and returns an {@code int} value, without any boxing.
+	 */
+	public static abstract class IntToIntFunction1 {
+		public abstract int apply(int t1);
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code long} parameter and returns a {@code long} value, without any boxing.
+	 */
+	public static abstract class LongToLongFunction1 {
+		public abstract long apply(long t1);
+	}
+
+	/**
+	 * Encapsulates a method that has a single {@code double} parameter and returns a {@code double} value, without any boxing.
+	 */
+	public static abstract class DoubleToDoubleFunction1 {
+		public abstract double apply(double t1);
+	}
+
+	/**
+	 * Encapsulates a method that has two {@code int} parameters and returns an {@code int} value, without any boxing.
+	 */
+	public static abstract class IntToIntFunction2 {
+		public abstract int apply(int t1, int t2);
+	}
+
+	/**
+	 * Encapsulates a method that has two {@code long} parameters and returns a {@code long} value, without any boxing.
+	 */
+	public static abstract class LongToLongFunction2 {
+		public abstract long apply(long t1, long t2);
+	}
+
+	/**
+	 * Encapsulates a method that has two {@code double} parameters and returns a {@code double} value, without any boxing.
+	 */
+	public static abstract class DoubleToDoubleFunction2 {
+		public abstract double apply(double t1, double t2);
+	}
+
+	/**
+	 * Returns a function that applies {@code first} and then {@code second} to its result. Already composed functions
+	 * are not nested but flattened, so any chain ends up as a single object that runs all stages in one loop.
+	 */
+	public static <T1, R, V> Function1<T1, V> andThen(final Function1<T1, ? extends R> first, final Function1<? super R, ? extends V> second) {
+		return Functions.<T1, V> chainOf(stagesOf(first, second));
+	}
+
+	/**
+	 * Returns a function that applies {@code before} and then {@code function} to its result.
+	 * 
+	 * @see #andThen(Function1, Function1)
+	 */
+	public static <T1, R, V> Function1<V, R> compose(final Function1<? super T1, ? extends R> function, final Function1<V, ? extends T1> before) {
+		return Functions.<V, R> chainOf(stagesOf(before, function));
+	}
+
+	/**
+	 * Starts a {@link Pipeline} with {@code first} as its first stage.
+	 */
+	public static <T1, R> Pipeline<T1, R> pipeline(final Function1<T1, R> first) {
+		return new Pipeline<T1, R>(stagesOf(first));
+	}
+
+	/**
+	 * Returns a function that applies {@code first} and then {@code second} to its result, without boxing in between.
+	 * 
+	 * @see #andThen(Function1, Function1)
+	 */
+	public static IntToIntFunction1 andThen(final IntToIntFunction1 first, final IntToIntFunction1 second) {
+		final List<IntToIntFunction1> stages = new ArrayList<IntToIntFunction1>();
+		for (IntToIntFunction1 function : new IntToIntFunction1[] { first, second }) {
+			if (function instanceof IntChain) {
+				stages.addAll(Arrays.asList(((IntChain) function).stages));
+			} else {
+				stages.add(function);
+			}
+		}
+		return new IntChain(stages.toArray(new IntToIntFunction1[stages.size()]));
+	}
+
+	/**
+	 * Returns a function that applies {@code before} and then {@code function} to its result, without boxing in
+	 * between.
+	 */
+	public static IntToIntFunction1 compose(final IntToIntFunction1 function, final IntToIntFunction1 before) {
+		return andThen(before, function);
+	}
+
+	/**
+	 * Returns a function that applies {@code first} and then {@code second} to its result, without boxing in between.
+	 * 
+	 * @see #andThen(Function1, Function1)
+	 */
+	public static LongToLongFunction1 andThen(final LongToLongFunction1 first, final LongToLongFunction1 second) {
+		final List<LongToLongFunction1> stages = new ArrayList<LongToLongFunction1>();
+		for (LongToLongFunction1 function : new LongToLongFunction1[] { first, second }) {
+			if (function instanceof LongChain) {
+				stages.addAll(Arrays.asList(((LongChain) function).stages));
+			} else {
+				stages.add(function);
+			}
+		}
+		return new LongChain(stages.toArray(new LongToLongFunction1[stages.size()]));
+	}
+
+	/**
+	 * Returns a function that applies {@code before} and then {@code function} to its result, without boxing in
+	 * between.
+	 */
+	public static LongToLongFunction1 compose(final LongToLongFunction1 function, final LongToLongFunction1 before) {
+		return andThen(before, function);
+	}
+
+	/**
+	 * Returns a function that applies {@code first} and then {@code second} to its result, without boxing in between.
+	 * 
+	 * @see #andThen(Function1, Function1)
+	 */
+	public static DoubleToDoubleFunction1 andThen(final DoubleToDoubleFunction1 first, final DoubleToDoubleFunction1 second) {
+		final List<DoubleToDoubleFunction1> stages = new ArrayList<DoubleToDoubleFunction1>();
+		for (DoubleToDoubleFunction1 function : new DoubleToDoubleFunction1[] { first, second }) {
+			if (function instanceof DoubleChain) {
+				stages.addAll(Arrays.asList(((DoubleChain) function).stages));
+			} else {
+				stages.add(function);
+			}
+		}
+		return new DoubleChain(stages.toArray(new DoubleToDoubleFunction1[stages.size()]));
+	}
+
+	/**
+	 * Returns a function that applies {@code before} and then {@code function} to its result, without boxing in
+	 * between.
+	 */
+	public static DoubleToDoubleFunction1 compose(final DoubleToDoubleFunction1 function, final DoubleToDoubleFunction1 before) {
+		return andThen(before, function);
+	}
+
+	private static List<Function1<Object, Object>> stagesOf(final Function1<?, ?>... functions) {
+		final List<Function1<Object, Object>> stages = new ArrayList<Function1<Object, Object>>();
+		for (Function1<?, ?> function : functions) {
+			if (function instanceof Chain) {
+				stages.addAll(Arrays.asList(((Chain<?, ?>) function).stages));
+			} else {
+				@SuppressWarnings("unchecked")
+				final Function1<Object, Object> stage = (Function1<Object, Object>) function;
+				stages.add(stage);
+			}
+		}
+		return stages;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T1, R> Function1<T1, R> chainOf(final List<Function1<Object, Object>> stages) {
+		if (stages.size() == 1) return (Function1<T1, R>) (Function1<?, ?>) stages.get(0);
+		@SuppressWarnings("rawtypes")
+		final Function1<Object, Object>[] stageArray = stages.toArray(new Function1[stages.size()]);
+		return new Chain<T1, R>(stageArray);
+	}
+
+	/**
+	 * Collects the stages of a composed function and fuses them into a single flat function on {@link #build()}.
+	 * Instances are immutable, so a pipeline can be used as common prefix of several others.
+	 * 
+	 * @param <T1>
+	 *            The type of the parameter of the resulting function.
+	 * @param <R>
+	 *            The type of the return value of the resulting function.
+	 */
+	public static final class Pipeline<T1, R> {
+		private final List<Function1<Object, Object>> stages;
+
+		private Pipeline(final List<Function1<Object, Object>> stages) {
+			this.stages = stages;
+		}
+
+		public <V> Pipeline<T1, V> then(final Function1<? super R, ? extends V> next) {
+			final List<Function1<Object, Object>> extendedStages = new ArrayList<Function1<Object, Object>>(stages);
+			extendedStages.addAll(stagesOf(next));
+			return new Pipeline<T1, V>(extendedStages);
+		}
+
+		public Function1<T1, R> build() {
+			return chainOf(stages);
+		}
+	}
+
+	private static final class Chain<T1, R> extends Function1<T1, R> {
+		private final Function1<Object, Object>[] stages;
+
+		Chain(final Function1<Object, Object>[] stages) {
+			this.stages = stages;
+		}
+
+		@SuppressWarnings("unchecked")
+		public R apply(final T1 t1) {
+			Object result = t1;
+			for (Function1<Object, Object> stage : stages) {
+				result = stage.apply(result);
+			}
+			return (R) result;
+		}
+		@Override
+		public Class<?> getReturnType() {
+			return stages[stages.length - 1].getReturnType();
+		}
+
+		@Override
+		public Class<?> getParameterType1() {
+			return stages[0].getParameterType1();
+		}
+	}
+
+	private static final class IntChain extends IntToIntFunction1 {
+		private final IntToIntFunction1[] stages;
+
+		IntChain(final IntToIntFunction1[] stages) {
+			this.stages = stages;
+		}
+
+		public int apply(final int t1) {
+			int result = t1;
+			for (IntToIntFunction1 stage : stages) {
+				result = stage.apply(result);
+			}
+			return result;
+		}
+	}
+
+	private static final class LongChain extends LongToLongFunction1 {
+		private final LongToLongFunction1[] stages;
+
+		LongChain(final LongToLongFunction1[] stages) {
+			this.stages = stages;
+		}
+
+		public long apply(final long t1) {
+			long result = t1;
+			for (LongToLongFunction1 stage : stages) {
+				result = stage.apply(result);
+			}
+			return result;
+		}
+	}
+
+	private static final class DoubleChain extends DoubleToDoubleFunction1 {
+		private final DoubleToDoubleFunction1[] stages;
+
+		DoubleChain(final DoubleToDoubleFunction1[] stages) {
+			this.stages = stages;
+		}
+
+		public double apply(final double t1) {
+			double result = t1;
+			for (DoubleToDoubleFunction1 stage : stages) {
+				result = stage.apply(result);
+			}
+			return result;
 		}
 	}
 }
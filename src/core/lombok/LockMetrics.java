@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2011-2012 Philipp Eichhorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package lombok;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.management.*;
+
+/**
+ * Registry of the statistics recorded by {@code @ReadLock}, {@code @WriteLock} and {@code @Await} with
+ * {@code metrics = true}, keyed by {@code <qualified class name>.<lock name>}.
+ * <p>
+ * Call {@link #registerMBeans()} once to expose all known and future locks via JMX as
+ * {@code lombok:type=LockMetrics,name=<lock name>}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LockMetrics {
+	private static final ConcurrentMap<String, Stats> STATS = new ConcurrentHashMap<String, Stats>();
+	private static volatile MBeanServer mbeanServer;
+
+	/**
+	 * Returns the statistics of the given lock, creating them if necessary.
+	 */
+	public static Stats of(final String lockName) {
+		Stats stats = STATS.get(lockName);
+		if (stats == null) {
+			final Stats newStats = new Stats(lockName);
+			stats = STATS.putIfAbsent(lockName, newStats);
+			if (stats == null) {
+				stats = newStats;
+				if (mbeanServer != null) register(mbeanServer, stats);
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * Returns the statistics of all locks known so far, sorted by name.
+	 */
+	public static SortedMap<String, Stats> all() {
+		return Collections.unmodifiableSortedMap(new TreeMap<String, Stats>(STATS));
+	}
+
+	public static void resetAll() {
+		for (Stats stats : STATS.values()) {
+			stats.reset();
+		}
+	}
+
+	public static synchronized void registerMBeans() {
+		if (mbeanServer != null) return;
+		final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		mbeanServer = server;
+		for (Stats stats : STATS.values()) {
+			register(server, stats);
+		}
+	}
+
+	private static void register(final MBeanServer server, final Stats stats) {
+		try {
+			server.registerMBean(new StandardMBean(stats, StatsMBean.class), new ObjectName("lombok:type=LockMetrics,name=" + ObjectName.quote(stats.getLockName())));
+		} catch (final InstanceAlreadyExistsException ignore) {
+			// registered by a concurrent call
+		} catch (final JMException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static interface StatsMBean {
+		public String getLockName();
+
+		public long getAcquisitions();
+
+		public long getContentions();
+
+		public long getTotalWaitNanos();
+
+		public long getMaxWaitNanos();
+
+		public long getTotalHoldNanos();
+
+		public void reset();
+	}
+
+	/**
+	 * Counters of a single lock. The hot counters are striped across padded cells, that way concurrent threads rarely
+	 * write to the same cache line.
+	 */
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	public static final class Stats implements StatsMBean {
+		@Getter
+		private final String lockName;
+		private final Counter acquisitions = new Counter();
+		private final Counter contentions = new Counter();
+		private final Counter totalWaitNanos = new Counter();
+		private final Counter totalHoldNanos = new Counter();
+		private final AtomicLong maxWaitNanos = new AtomicLong();
+
+		/**
+		 * Called by the generated code after the lock has been released.
+		 */
+		public void record(final boolean contended, final long waitNanos, final long holdNanos) {
+			acquisitions.increment();
+			totalHoldNanos.add(holdNanos);
+			if (contended) {
+				contentions.increment();
+				totalWaitNanos.add(waitNanos);
+				long max = maxWaitNanos.get();
+				while ((waitNanos > max) && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+					max = maxWaitNanos.get();
+				}
+			}
+		}
+
+		public long getAcquisitions() {
+			return acquisitions.sum();
+		}
+
+		public long getContentions() {
+			return contentions.sum();
+		}
+
+		public long getTotalWaitNanos() {
+			return totalWaitNanos.sum();
+		}
+
+		public long getMaxWaitNanos() {
+			return maxWaitNanos.get();
+		}
+
+		public long getTotalHoldNanos() {
+			return totalHoldNanos.sum();
+		}
+
+		public void reset() {
+			acquisitions.reset();
+			contentions.reset();
+			totalWaitNanos.reset();
+			totalHoldNanos.reset();
+			maxWaitNanos.set(0);
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s[acquisitions=%s, contentions=%s, totalWaitNanos=%s, maxWaitNanos=%s, totalHoldNanos=%s]", lockName, getAcquisitions(),
+					getContentions(), getTotalWaitNanos(), getMaxWaitNanos(), getTotalHoldNanos());
+		}
+	}
+
+	private static final class Counter {
+		private static final int CELLS = 16;
+		private static final int PADDING = 8;
+		private final AtomicLongArray cells = new AtomicLongArray(CELLS * PADDING);
+
+		void increment() {
+			add(1);
+		}
+
+		void add(final long delta) {
+			cells.addAndGet((int) (Thread.currentThread().getId() & (CELLS - 1)) * PADDING, delta);
+		}
+
+		long sum() {
+			long sum = 0;
+			for (int i = 0; i < CELLS; i++) {
+				sum += cells.get(i * PADDING);
+			}
+			return sum;
+		}
+
+		void reset() {
+			for (int i = 0; i < CELLS; i++) {
+				cells.set(i * PADDING, 0);
+			}
+		}
+	}
+}
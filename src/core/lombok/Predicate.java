@@ -28,6 +28,9 @@ import java.lang.annotation.*;
 
 /**
  * Encapsulates a method that returns a {@code boolean}.
+ * <p>
+ * If the template class offers a template with matching {@code int}, {@code long} or {@code double} parameters (or
+ * return type), the most specialized one is chosen, so no boxing takes place on these positions.
  */
 @Target(METHOD)
 @Retention(SOURCE)
@@ -36,4 +39,11 @@ public @interface Predicate {
 	 * Specifies the template class, that should be used. Default is {@code Predicates.class}.
 	 */
 	Class<?> value() default Predicates.class;
+
+	/**
+	 * If {@code true}, the method is rebuilt to return the matching {@code java.util.function} interface (for example
+	 * {@code IntPredicate} or {@code BiPredicate}) instead of a template from {@link #value()}, so the result can be handed to
+	 * streams or {@code CompletableFuture} without an adapter. Requires the Java 8 class library at compile time.
+	 */
+	boolean javaUtilFunction() default false;
 }
@@ -23,8 +23,12 @@ package lombok;
 
 import static lombok.Functions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
- * Collection of predicate templates.
+ * Collection of predicate templates and combinators to compose them.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Predicates {
@@ -42,5 +46,340 @@ public final class Predicates {
 		}
 
 		public abstract boolean evaluate(T1 t1);
+
+		@Override
+		public final Class<?> getReturnType() {
+			return Boolean.class;
+		}
+	}
+
+	/**
+	 * Represents the method that determines whether the specified {@code int} value meets a set of criteria, without
+	 * boxing the value or the result.
+	 */
+	public static abstract class IntPredicate1 {
+		public abstract boolean evaluate(int t1);
+	}
+
+	/**
+	 * Represents the method that determines whether the specified {@code long} value meets a set of criteria, without
+	 * boxing the value or the result.
+	 */
+	public static abstract class LongPredicate1 {
+		public abstract boolean evaluate(long t1);
+	}
+
+	/**
+	 * Represents the method that determines whether the specified {@code double} value meets a set of criteria, without
+	 * boxing the value or the result.
+	 */
+	public static abstract class DoublePredicate1 {
+		public abstract boolean evaluate(double t1);
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if both {@code first} and {@code second} are, evaluating {@code second}
+	 * only if necessary. Nested conjunctions are flattened into a single predicate that checks all operands in one
+	 * loop.
+	 */
+	public static <T1> Predicate1<T1> and(final Predicate1<? super T1> first, final Predicate1<? super T1> second) {
+		return new All<T1>(operandsOf(All.class, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code first} or {@code second} is, evaluating {@code second} only if
+	 * necessary. Nested disjunctions are flattened into a single predicate that checks all operands in one loop.
+	 */
+	public static <T1> Predicate1<T1> or(final Predicate1<? super T1> first, final Predicate1<? super T1> second) {
+		return new Any<T1>(operandsOf(Any.class, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code predicate} is not. Negating a negated predicate returns the
+	 * original one.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T1> Predicate1<T1> negate(final Predicate1<? super T1> predicate) {
+		if (predicate instanceof Not) return (Predicate1<T1>) ((Not<?>) predicate).predicate;
+		return new Not<T1>(predicate);
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if both {@code first} and {@code second} are, without boxing.
+	 * 
+	 * @see #and(Predicate1, Predicate1)
+	 */
+	public static IntPredicate1 and(final IntPredicate1 first, final IntPredicate1 second) {
+		return new IntJunction(true, intOperandsOf(true, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code first} or {@code second} is, without boxing.
+	 * 
+	 * @see #or(Predicate1, Predicate1)
+	 */
+	public static IntPredicate1 or(final IntPredicate1 first, final IntPredicate1 second) {
+		return new IntJunction(false, intOperandsOf(false, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code predicate} is not, without boxing.
+	 */
+	public static IntPredicate1 negate(final IntPredicate1 predicate) {
+		if (predicate instanceof IntNot) return ((IntNot) predicate).predicate;
+		return new IntNot(predicate);
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if both {@code first} and {@code second} are, without boxing.
+	 * 
+	 * @see #and(Predicate1, Predicate1)
+	 */
+	public static LongPredicate1 and(final LongPredicate1 first, final LongPredicate1 second) {
+		return new LongJunction(true, longOperandsOf(true, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code first} or {@code second} is, without boxing.
+	 * 
+	 * @see #or(Predicate1, Predicate1)
+	 */
+	public static LongPredicate1 or(final LongPredicate1 first, final LongPredicate1 second) {
+		return new LongJunction(false, longOperandsOf(false, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code predicate} is not, without boxing.
+	 */
+	public static LongPredicate1 negate(final LongPredicate1 predicate) {
+		if (predicate instanceof LongNot) return ((LongNot) predicate).predicate;
+		return new LongNot(predicate);
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if both {@code first} and {@code second} are, without boxing.
+	 * 
+	 * @see #and(Predicate1, Predicate1)
+	 */
+	public static DoublePredicate1 and(final DoublePredicate1 first, final DoublePredicate1 second) {
+		return new DoubleJunction(true, doubleOperandsOf(true, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code first} or {@code second} is, without boxing.
+	 * 
+	 * @see #or(Predicate1, Predicate1)
+	 */
+	public static DoublePredicate1 or(final DoublePredicate1 first, final DoublePredicate1 second) {
+		return new DoubleJunction(false, doubleOperandsOf(false, first, second));
+	}
+
+	/**
+	 * Returns a predicate that is satisfied if {@code predicate} is not, without boxing.
+	 */
+	public static DoublePredicate1 negate(final DoublePredicate1 predicate) {
+		if (predicate instanceof DoubleNot) return ((DoubleNot) predicate).predicate;
+		return new DoubleNot(predicate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Predicate1<Object>[] operandsOf(final Class<?> junctionType, final Predicate1<?>... predicates) {
+		final List<Predicate1<Object>> operands = new ArrayList<Predicate1<Object>>();
+		for (Predicate1<?> predicate : predicates) {
+			if (junctionType.isInstance(predicate)) {
+				operands.addAll(Arrays.asList(((Junction<?>) predicate).operands));
+			} else {
+				operands.add((Predicate1<Object>) predicate);
+			}
+		}
+		@SuppressWarnings("rawtypes")
+		final Predicate1<Object>[] operandArray = operands.toArray(new Predicate1[operands.size()]);
+		return operandArray;
+	}
+
+	private static IntPredicate1[] intOperandsOf(final boolean conjunction, final IntPredicate1... predicates) {
+		final List<IntPredicate1> operands = new ArrayList<IntPredicate1>();
+		for (IntPredicate1 predicate : predicates) {
+			if ((predicate instanceof IntJunction) && (((IntJunction) predicate).conjunction == conjunction)) {
+				operands.addAll(Arrays.asList(((IntJunction) predicate).operands));
+			} else {
+				operands.add(predicate);
+			}
+		}
+		return operands.toArray(new IntPredicate1[operands.size()]);
+	}
+
+	private static LongPredicate1[] longOperandsOf(final boolean conjunction, final LongPredicate1... predicates) {
+		final List<LongPredicate1> operands = new ArrayList<LongPredicate1>();
+		for (LongPredicate1 predicate : predicates) {
+			if ((predicate instanceof LongJunction) && (((LongJunction) predicate).conjunction == conjunction)) {
+				operands.addAll(Arrays.asList(((LongJunction) predicate).operands));
+			} else {
+				operands.add(predicate);
+			}
+		}
+		return operands.toArray(new LongPredicate1[operands.size()]);
+	}
+
+	private static DoublePredicate1[] doubleOperandsOf(final boolean conjunction, final DoublePredicate1... predicates) {
+		final List<DoublePredicate1> operands = new ArrayList<DoublePredicate1>();
+		for (DoublePredicate1 predicate : predicates) {
+			if ((predicate instanceof DoubleJunction) && (((DoubleJunction) predicate).conjunction == conjunction)) {
+				operands.addAll(Arrays.asList(((DoubleJunction) predicate).operands));
+			} else {
+				operands.add(predicate);
+			}
+		}
+		return operands.toArray(new DoublePredicate1[operands.size()]);
+	}
+
+	private static abstract class Junction<T1> extends Predicate1<T1> {
+		final Predicate1<Object>[] operands;
+
+		Junction(final Predicate1<Object>[] operands) {
+			this.operands = operands;
+		}
+
+		/**
+		 * Returns the most specific parameter type of all operands, as that is what this predicate can be evaluated on.
+		 */
+		@Override
+		public Class<?> getParameterType1() {
+			Class<?> parameterType = Object.class;
+			for (Predicate1<Object> operand : operands) {
+				final Class<?> operandParameterType = operand.getParameterType1();
+				if (parameterType.isAssignableFrom(operandParameterType)) parameterType = operandParameterType;
+			}
+			return parameterType;
+		}
+	}
+
+	private static final class All<T1> extends Junction<T1> {
+		All(final Predicate1<Object>[] operands) {
+			super(operands);
+		}
+
+		public boolean evaluate(final T1 t1) {
+			for (Predicate1<Object> operand : operands) {
+				if (!operand.evaluate(t1)) return false;
+			}
+			return true;
+		}
+	}
+
+	private static final class Any<T1> extends Junction<T1> {
+		Any(final Predicate1<Object>[] operands) {
+			super(operands);
+		}
+
+		public boolean evaluate(final T1 t1) {
+			for (Predicate1<Object> operand : operands) {
+				if (operand.evaluate(t1)) return true;
+			}
+			return false;
+		}
+	}
+
+	private static final class Not<T1> extends Predicate1<T1> {
+		private final Predicate1<? super T1> predicate;
+
+		Not(final Predicate1<? super T1> predicate) {
+			this.predicate = predicate;
+		}
+
+		public boolean evaluate(final T1 t1) {
+			return !predicate.evaluate(t1);
+		}
+		@Override
+		public Class<?> getParameterType1() {
+			return predicate.getParameterType1();
+		}
+	}
+
+	private static final class IntJunction extends IntPredicate1 {
+		private final boolean conjunction;
+		private final IntPredicate1[] operands;
+
+		IntJunction(final boolean conjunction, final IntPredicate1[] operands) {
+			this.conjunction = conjunction;
+			this.operands = operands;
+		}
+
+		public boolean evaluate(final int t1) {
+			for (IntPredicate1 operand : operands) {
+				if (operand.evaluate(t1) != conjunction) return !conjunction;
+			}
+			return conjunction;
+		}
+	}
+
+	private static final class IntNot extends IntPredicate1 {
+		private final IntPredicate1 predicate;
+
+		IntNot(final IntPredicate1 predicate) {
+			this.predicate = predicate;
+		}
+
+		public boolean evaluate(final int t1) {
+			return !predicate.evaluate(t1);
+		}
+	}
+
+	private static final class LongJunction extends LongPredicate1 {
+		private final boolean conjunction;
+		private final LongPredicate1[] operands;
+
+		LongJunction(final boolean conjunction, final LongPredicate1[] operands) {
+			this.conjunction = conjunction;
+			this.operands = operands;
+		}
+
+		public boolean evaluate(final long t1) {
+			for (LongPredicate1 operand : operands) {
+				if (operand.evaluate(t1) != conjunction) return !conjunction;
+			}
+			return conjunction;
+		}
+	}
+
+	private static final class LongNot extends LongPredicate1 {
+		private final LongPredicate1 predicate;
+
+		LongNot(final LongPredicate1 predicate) {
+			this.predicate = predicate;
+		}
+
+		public boolean evaluate(final long t1) {
+			return !predicate.evaluate(t1);
+		}
+	}
+
+	private static final class DoubleJunction extends DoublePredicate1 {
+		private final boolean conjunction;
+		private final DoublePredicate1[] operands;
+
+		DoubleJunction(final boolean conjunction, final DoublePredicate1[] operands) {
+			this.conjunction = conjunction;
+			this.operands = operands;
+		}
+
+		public boolean evaluate(final double t1) {
+			for (DoublePredicate1 operand : operands) {
+				if (operand.evaluate(t1) != conjunction) return !conjunction;
+			}
+			return conjunction;
+		}
+	}
+
+	private static final class DoubleNot extends DoublePredicate1 {
+		private final DoublePredicate1 predicate;
+
+		DoubleNot(final DoublePredicate1 predicate) {
+			this.predicate = predicate;
+		}
+
+		public boolean evaluate(final double t1) {
+			return !predicate.evaluate(t1);
+		}
 	}
 }
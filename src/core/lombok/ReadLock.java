@@ -25,6 +25,7 @@ import static java.lang.annotation.ElementType.*;
 import static java.lang.annotation.RetentionPolicy.SOURCE;
 
 import java.lang.annotation.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Locking beyond {@code @Synchronized}.
@@ -51,6 +52,69 @@ public @interface ReadLock {
 	 * <p>
 	 * If no lock with the specified name exists a new {@link java.util.concurrent.locks.ReadWriteLock ReadWriteLock}
 	 * will be created, using this name.
+	 * <p>
+	 * If the lock is declared as a {@code java.util.concurrent.locks.StampedLock}, a read stamp is acquired instead.
+	 * Unlike a {@code ReentrantReadWriteLock} it is not reentrant, so a method holding it must not call another
+	 * method that locks it again.
 	 */
 	String value();
+
+	/**
+	 * Read optimistically using a {@code java.util.concurrent.locks.StampedLock} (Java 8 or later).
+	 * <p>
+	 * The method body is moved into a private helper that first runs without holding any lock. Only if a writer
+	 * intervened, which is detected via {@code validate(stamp)}, the helper runs again while holding the read lock.
+	 * Since the body may run more than once it should only read state and must not have side effects.
+	 * <p>
+	 * The lock has to be declared explicitly as a {@code StampedLock}, otherwise this is an error. All other
+	 * {@code @ReadLock} and {@code @WriteLock} methods on this lock then use stamps as well.
+	 * <p>
+	 * <b>Note:</b> A {@code StampedLock} is not reentrant. A method holding the lock must not call another method that
+	 * locks it again, or the thread deadlocks.
+	 */
+	boolean optimistic() default false;
+
+	/**
+	 * Name of an argument of the method, whose hash code selects one of {@link #stripes()} locks.
+	 * <p>
+	 * If set and no lock with the specified name exists, an array of
+	 * {@link java.util.concurrent.locks.ReadWriteLock ReadWriteLocks} will be created, using this name. That way
+	 * calls with independent keys do not block each other.
+	 */
+	String stripedBy() default "";
+
+	/**
+	 * Number of locks used if {@link #stripedBy()} is set. All methods that use the same lock have to agree on it.
+	 */
+	int stripes() default 16;
+
+	/**
+	 * Maximum time to wait for the lock, in {@link #unit()}. A negative value, which is the default, waits forever.
+	 * <p>
+	 * If the time elapsed, {@link #onTimeout()} is called or {@link #timeoutException()} is thrown.
+	 */
+	long timeout() default -1;
+
+	/**
+	 * Specifies the unit of {@link #timeout()}, default is {@link java.util.concurrent.TimeUnit MILLISECONDS}.
+	 */
+	TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * Name of a method, that accepts the same arguments as the annotated method. Its result is returned if the
+	 * {@link #timeout()} elapsed.
+	 */
+	String onTimeout() default "";
+
+	/**
+	 * Specifies the exception thrown if the {@link #timeout()} elapsed and no {@link #onTimeout()} method is given.
+	 * It needs a constructor that accepts a {@code String} message. Default is {@code IllegalStateException.class}.
+	 */
+	Class<? extends RuntimeException> timeoutException() default IllegalStateException.class;
+
+	/**
+	 * Records acquisitions, contentions, wait and hold times of the lock in {@link lombok.LockMetrics}, default is
+	 * {@code false}.
+	 */
+	boolean metrics() default false;
 }
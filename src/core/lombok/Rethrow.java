@@ -71,4 +71,24 @@ public @interface Rethrow {
 	 * Specifies the message used for the new exception, default is no message.
 	 */
 	String message() default "";
+
+	/**
+	 * Wrap the caught exceptions in a subclass of the {@link #as()} type, that does not capture its own stack trace. The
+	 * caught exception still has the full stack trace as the cause. Use this if exceptions are rethrown at a high rate.
+	 * <p>
+	 * <b>Note:</b> The thrown exception is an instance of a private nested class like
+	 * {@code $StacklessIllegalStateException}, which is generated once per class. It is still an instance of the
+	 * {@link #as()} type, which must not be final and needs a {@code (String, Throwable)} constructor.
+	 */
+	boolean stackless() default false;
+
+	/**
+	 * Format the {@link #message()} in {@code getMessage()} instead of the constructor, so the formatting is only paid
+	 * if someone actually reads the message. The referenced parameters are still captured when the exception is thrown.
+	 * <p>
+	 * <b>Note:</b> The thrown exception is an instance of a private nested class like
+	 * {@code $LazyIllegalArgumentException}, which is generated once per class. It is still an instance of the
+	 * {@link #as()} type, which must not be final and needs a {@code (String, Throwable)} constructor.
+	 */
+	boolean lazyMessage() default false;
 }
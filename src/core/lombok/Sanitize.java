@@ -52,6 +52,9 @@ public @interface Sanitize {
 	 * {@link String} parameter gets normalized using {@link Normalizer#normalize(CharSequence, Normalizer.Form)} with
 	 * default form being {@link java.text.Normalizer.Form#NFKC NFKC}
 	 * <p>
+	 * Parameters that are already normalized, like plain ASCII text, are detected by
+	 * {@link Normalizer#isNormalized(CharSequence, Normalizer.Form)} and passed on as they are.
+	 * <p>
 	 * <b>Note:</b> This works only on {@link String Strings}.
 	 */
 	@Target(PARAMETER)
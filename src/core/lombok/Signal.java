@@ -73,4 +73,16 @@ public @interface Signal {
 	 * using this name.
 	 */
 	String lockName() default "";
+
+	/**
+	 * Wake up all waiting threads using {@code signalAll()} instead of a single one, default is {@code false}.
+	 */
+	boolean all() default false;
+
+	/**
+	 * Only signal if {@code ReentrantLock.hasWaiters(condition)} reports waiting threads, default is {@code false}.
+	 * <p>
+	 * Requires the lock to be a {@link java.util.concurrent.locks.ReentrantLock ReentrantLock}, so a declared lock has to be declared as such.
+	 */
+	boolean ifWaiters() default false;
 }
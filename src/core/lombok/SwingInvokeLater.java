@@ -68,4 +68,13 @@ import java.lang.annotation.*;
 @Target(METHOD)
 @Retention(SOURCE)
 public @interface SwingInvokeLater {
+	/**
+	 * <p>Instruct lombok to coalesce calls from outside the event dispatch thread: At most one task is queued at a time,
+	 * calls made while it is pending only replace the arguments, so the task runs once with the latest ones. Use this
+	 * for methods that are called at a high rate, like updates from a background feed, to keep the event queue from
+	 * flooding.</p>
+	 * <p><b>Note:</b> Calls that are dropped this way never run, so the method body should only depend on its latest
+	 * arguments. This mode is not available for generic or overloaded methods.</p>
+	 */
+	boolean coalesce() default false;
 }
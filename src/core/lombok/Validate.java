@@ -69,4 +69,23 @@ public @interface Validate {
 	@Retention(SOURCE)
 	public static @interface NotEmpty {
 	}
+
+	/**
+	 * Use this on a type to make the generated parameter validation of all its methods and constructors switchable at
+	 * runtime. The checks are guarded by a {@code static final boolean} field, initialized by
+	 * {@link Boolean#getBoolean(String)} from the given system property. If the property is set to {@code true}, the
+	 * JIT removes the checks entirely, otherwise they run as usual.
+	 * <p>
+	 * This applies to every lombok-pg annotation that triggers a parameter validation, not only {@link Validate @Validate}.
+	 * <p>
+	 * <b>Note:</b> The type needs to be able to declare static fields, so this does not work on inner classes.
+	 */
+	@Target(TYPE)
+	@Retention(SOURCE)
+	public static @interface Elidable {
+		/**
+		 * Name of the system property that turns off the validation.
+		 */
+		String value() default "lombok.validate.elide";
+	}
 }
@@ -29,6 +29,18 @@
  */
 package lombok;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Yield {
 
@@ -56,8 +68,305 @@ public class Yield {
 	 * 	}
 	 * }
 	 * </pre>
+	 * 
+	 * Methods returning {@code PrimitiveIterator.OfInt}, {@code PrimitiveIterator.OfLong} or {@code PrimitiveIterator.OfDouble} of Java 8 keep the
+	 * yielded value in a primitive field and never box it, as long as the elements are consumed through {@code nextInt()},
+	 * {@code nextLong()} or {@code nextDouble()}, or in bulk through {@code forEachRemaining(IntConsumer)},
+	 * {@code forEachRemaining(LongConsumer)} or {@code forEachRemaining(DoubleConsumer)}.
+	 * <p>
+	 * Methods returning {@code java.util.Spliterator} of Java 8 get an ordered, non-splitting spliterator of unknown size,
+	 * whose {@code forEachRemaining()} drives the generated state machine directly without any {@code hasNext()} bookkeeping.
+	 * The primitive {@code Spliterator.OfInt}, {@code OfLong} and {@code OfDouble} are not supported.
+	 * Methods returning {@code java.util.stream.Stream} get a sequential stream on top of such a spliterator.
 	 */
 	public static <T> void yield(final T value) {
 		return; // yup, that's about all we need
 	}
+
+	/**
+	 * Yields all elements of the given values, in order.
+	 * 
+	 * <pre>
+	 * public Iterable&lt;Node&gt; walk(final Node node) {
+	 * 	yield(node);
+	 * 	for (Node child : node.children())
+	 * 		yieldAll(walk(child));
+	 * }
+	 * </pre>
+	 * 
+	 * Unlike {@code for (Node n : walk(child)) yield(n);}, nested delegations do not pile up one iterator hop per
+	 * level: the outermost yielder hands out every element directly, no matter how deep the recursion goes.
+	 */
+	public static <T> void yieldAll(final Iterable<? extends T> values) {
+		return;
+	}
+
+	/**
+	 * Iterates the given iterable on a separate producer thread, see {@link AsyncYield}.
+	 */
+	public static <T> Iterable<T> asyncIterable(final Iterable<T> source, final int capacity, final int batch) {
+		return new Iterable<T>() {
+			public Iterator<T> iterator() {
+				return asyncIterator(source.iterator(), capacity, batch);
+			}
+		};
+	}
+
+	/**
+	 * Iterates the given iterator on a separate producer thread, see {@link AsyncYield}. The returned iterator
+	 * implements {@link Closeable}, closing it stops the producer.
+	 */
+	public static <T> Iterator<T> asyncIterator(final Iterator<T> source, final int capacity, final int batch) {
+		return new AsyncIterator<T>(source, capacity, batch);
+	}
+
+	private static final class AsyncIterator<T> implements Iterator<T>, Closeable {
+		private final Producer producer;
+		private Object[] chunk = new Object[0];
+		private int index;
+
+		AsyncIterator(final Iterator<T> source, final int capacity, final int batch) {
+			producer = new Producer(source, capacity, batch, this);
+		}
+
+		public boolean hasNext() {
+			if (index < chunk.length) return true;
+			if ((chunk == Producer.END) || producer.closed) return false;
+			producer.start();
+			try {
+				chunk = producer.buffer.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			index = 0;
+			if (chunk == Producer.END) {
+				final Throwable error = producer.failure;
+				if (error instanceof RuntimeException) throw (RuntimeException) error;
+				if (error instanceof Error) throw (Error) error;
+				if (error != null) throw new IllegalStateException(error);
+				return false;
+			}
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return (T) chunk[index++];
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		public void close() {
+			chunk = Producer.END;
+			producer.close();
+		}
+	}
+
+	/**
+	 * Fills the buffer of an {@link AsyncIterator} on a thread that is started by the first {@code hasNext()}.
+	 * <p>
+	 * A partial batch is handed over as soon as the buffer runs empty, that way a slow producer does not keep elements
+	 * back from a waiting consumer. The consumer is only referenced weakly, so an iterator that gets abandoned without being
+	 * closed can be collected, which the producer notices the next time it waits for free buffer space.
+	 */
+	private static final class Producer implements Runnable {
+		private static final Object[] END = new Object[0];
+		private static final long OFFER_TIMEOUT_MILLIS = 100;
+		private final Iterator<?> source;
+		private final int batch;
+		private final BlockingQueue<Object[]> buffer;
+		private final WeakReference<Object> consumer;
+		private volatile boolean closed;
+		private volatile Throwable failure;
+		private Thread thread;
+
+		Producer(final Iterator<?> source, final int capacity, final int batch, final Object consumer) {
+			this.source = source;
+			this.batch = Math.max(1, batch);
+			buffer = new ArrayBlockingQueue<Object[]>(Math.max(1, capacity / this.batch));
+			this.consumer = new WeakReference<Object>(consumer);
+		}
+
+		void start() {
+			if (thread != null) return;
+			thread = new Thread(this, "yield-producer");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		void close() {
+			closed = true;
+			if (thread != null) thread.interrupt();
+			buffer.clear();
+		}
+
+		public void run() {
+			try {
+				Object[] values = new Object[batch];
+				int size = 0;
+				while (!closed && source.hasNext()) {
+					values[size++] = source.next();
+					if (size == batch) {
+						if (!publish(values)) return;
+						values = new Object[batch];
+						size = 0;
+					} else if (buffer.isEmpty()) {
+						if (!publish(Arrays.copyOf(values, size))) return;
+						size = 0;
+					}
+				}
+				if ((size > 0) && !closed) {
+					publish(Arrays.copyOf(values, size));
+				}
+			} catch (InterruptedException e) {
+				// closed by the consumer
+			} catch (Throwable e) {
+				failure = e;
+			} finally {
+				if (source instanceof Closeable) {
+					try {
+						((Closeable) source).close();
+					} catch (IOException ignore) {
+						// the yielders do not throw here
+					}
+				}
+				if (!closed) {
+					try {
+						publish(END);
+					} catch (InterruptedException ignore) {
+						// closed by the consumer
+					}
+				}
+			}
+		}
+
+		/**
+		 * Returns {@code false} if the consumer was closed or collected while waiting for free buffer space.
+		 */
+		private boolean publish(final Object[] values) throws InterruptedException {
+			while (!buffer.offer(values, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (closed || (consumer.get() == null)) {
+					closed = true;
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Base class of the yielders generated for methods that contain {@link Yield#yieldAll(Iterable) yieldAll()}.
+	 * <p>
+	 * The outermost yielder keeps a stack of the iterators it currently delegates to. Yielders created by a
+	 * delegation push their own delegates onto that same stack, so the next element is always taken from the top of
+	 * the stack.
+	 */
+	public static abstract class Delegator<T> implements Iterator<T>, Closeable {
+		protected T $next;
+		private final List<Iterator<? extends T>> delegates = new ArrayList<Iterator<? extends T>>();
+		private Delegator<?> root = this;
+		private boolean delegated;
+		private boolean hasNext;
+		private boolean nextDefined;
+		private T next;
+
+		protected abstract boolean getNext();
+
+		public abstract void close();
+
+		public final boolean hasNext() {
+			if (!nextDefined) {
+				hasNext = advance();
+				nextDefined = true;
+			}
+			return hasNext;
+		}
+
+		public final T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			nextDefined = false;
+			return next;
+		}
+
+		public final void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@SuppressWarnings("unchecked")
+		protected final void delegateTo(final Iterable<? extends T> values) {
+			final Iterator<? extends T> iterator = values.iterator();
+			if (iterator instanceof Delegator<?>) {
+				final Delegator<?> delegator = (Delegator<?>) iterator;
+				if ((delegator.root == delegator) && !delegator.nextDefined && delegator.delegates.isEmpty()) {
+					delegator.root = root;
+				}
+			}
+			((Delegator<T>) root).delegates.add(iterator);
+			root.delegated = true;
+		}
+
+		/**
+		 * Closes every {@link Closeable} delegate from the top of the stack down, not only the adopted yielders. All of
+		 * them get closed even if one of them fails, the first failure is rethrown afterwards.
+		 */
+		protected final void closeDelegates() {
+			RuntimeException failure = null;
+			for (int i = delegates.size() - 1; i >= 0; i--) {
+				final Iterator<? extends T> iterator = delegates.get(i);
+				if (!(iterator instanceof Closeable)) continue;
+				try {
+					((Closeable) iterator).close();
+				} catch (RuntimeException e) {
+					if (failure == null) failure = e;
+				} catch (IOException e) {
+					if (failure == null) failure = new RuntimeException(e);
+				}
+			}
+			delegates.clear();
+			if (failure != null) throw failure;
+		}
+
+		private boolean advance() {
+			while (true) {
+				final int top = delegates.size() - 1;
+				final Iterator<? extends T> iterator = top < 0 ? null : delegates.get(top);
+				if ((iterator == null) || isAdopted(iterator)) {
+					final Delegator<? extends T> generator;
+					if (iterator == null) {
+						generator = this;
+					} else {
+						generator = (Delegator<? extends T>) iterator;
+					}
+					delegated = false;
+					if (generator.getNext()) {
+						if (!delegated) {
+							next = generator.$next;
+							return true;
+						}
+					} else if (iterator == null) {
+						return false;
+					} else {
+						delegates.remove(top);
+					}
+				} else if (iterator.hasNext()) {
+					next = iterator.next();
+					return true;
+				} else {
+					delegates.remove(top);
+				}
+			}
+		}
+
+		private boolean isAdopted(final Iterator<?> iterator) {
+			return (iterator instanceof Delegator<?>) && (((Delegator<?>) iterator).root == this);
+		}
+	}
 }
@@ -241,7 +241,15 @@ public final class ASTPrinter implements ASTVisitor<ASTPrinter.State, ASTPrinter
 		}
 		state.print(" {\n");
 		final State indentedState = state.indent();
-		if (node.implicitSuper()) {
+		if (!node.getSuperArguments().isEmpty()) {
+			indentedState.printIndent().print("super(");
+			for (int i = 0, iend = node.getSuperArguments().size() - 1; i <= iend; i++) {
+				indentedState.print(node.getSuperArguments().get(i), this);
+				if (i == iend) break;
+				indentedState.print(", ");
+			}
+			indentedState.print(");\n");
+		} else if (node.implicitSuper()) {
 			indentedState.printIndent().print("super();\n");
 		}
 		for (Statement<?> statement : node.getStatements()) {
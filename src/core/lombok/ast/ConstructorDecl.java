@@ -21,7 +21,11 @@
  */
 package lombok.ast;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ConstructorDecl extends AbstractMethodDecl<ConstructorDecl> {
+	private final List<Expression<?>> superArguments = new ArrayList<Expression<?>>();
 	private boolean implicitSuper;
 
 	public ConstructorDecl(final String name) {
@@ -33,10 +37,19 @@ public class ConstructorDecl extends AbstractMethodDecl<ConstructorDecl> {
 		return this;
 	}
 
+	public ConstructorDecl withSuperArgument(final Expression<?> argument) {
+		superArguments.add(child(argument));
+		return this;
+	}
+
 	public boolean implicitSuper() {
 		return implicitSuper;
 	}
 
+	public List<Expression<?>> getSuperArguments() {
+		return superArguments;
+	}
+
 	@Override
 	public <RETURN_TYPE, PARAMETER_TYPE> RETURN_TYPE accept(final ASTVisitor<RETURN_TYPE, PARAMETER_TYPE> v, final PARAMETER_TYPE p) {
 		return v.visitConstructorDecl(this, p);
@@ -41,6 +41,8 @@ public interface IField<TYPE_TYPE extends IType<?, ?, ?, ?, ?, ?>, LOMBOK_NODE_T
 
 	public boolean isPrimitive();
 
+	public boolean isArray();
+
 	public boolean hasJavaDoc();
 
 	public AST_VARIABLE_DECL_TYPE get();
@@ -69,6 +71,10 @@ public interface IField<TYPE_TYPE extends IType<?, ?, ?, ?, ?, ?>, LOMBOK_NODE_T
 
 	public Expression<?> initialization();
 
+	public String instantiatedType();
+
+	public boolean isInitializedWithLiteral();
+
 	public List<TypeRef> typeArguments();
 
 	public List<Annotation> annotations();
@@ -79,6 +79,8 @@ public interface IMethod<TYPE_TYPE extends IType<?, ?, ?, ?, ?, ?>, LOMBOK_NODE_
 
 	public List<TypeRef> thrownExceptions();
 
+	public boolean throwsException(String typeName);
+
 	public enum ArgumentStyle {
 		INCLUDE_ANNOTATIONS, BOXED_TYPES;
 	}
@@ -38,6 +38,8 @@ public interface IType<METHOD_TYPE extends IMethod<?, ?, ?, ?>, FIELD_TYPE exten
 
 	public boolean isClass();
 
+	public boolean isInner();
+
 	public boolean hasSuperClass();
 
 	public <T extends IType<?, ?, ?, ?, ?, ?>> T memberType(String typeName);
@@ -70,6 +72,8 @@ public interface IType<METHOD_TYPE extends IMethod<?, ?, ?, ?>, FIELD_TYPE exten
 
 	public List<Annotation> annotations();
 
+	public boolean hasType(String typeName);
+
 	public boolean hasField(String fieldName);
 
 	public boolean hasMethod(String methodName, TypeRef... argumentTypes);
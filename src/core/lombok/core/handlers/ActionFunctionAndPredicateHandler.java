@@ -28,38 +28,74 @@ import java.util.*;
 
 import lombok.*;
 import lombok.ast.*;
+import lombok.core.util.As;
 
 public final class ActionFunctionAndPredicateHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?, ?, ?>, METHOD_TYPE extends IMethod<TYPE_TYPE, ?, ?, ?>> {
+	private static final List<String> JAVA_UTIL_FUNCTIONS = As.unmodifiableList("java.util.function.Supplier", "java.util.function.BooleanSupplier",
+			"java.util.function.IntSupplier", "java.util.function.LongSupplier", "java.util.function.DoubleSupplier", "java.util.function.Function",
+			"java.util.function.IntFunction", "java.util.function.LongFunction", "java.util.function.DoubleFunction", "java.util.function.ToIntFunction",
+			"java.util.function.ToLongFunction", "java.util.function.ToDoubleFunction", "java.util.function.IntUnaryOperator",
+			"java.util.function.LongUnaryOperator", "java.util.function.DoubleUnaryOperator", "java.util.function.IntToLongFunction",
+			"java.util.function.IntToDoubleFunction", "java.util.function.LongToIntFunction", "java.util.function.LongToDoubleFunction",
+			"java.util.function.DoubleToIntFunction", "java.util.function.DoubleToLongFunction", "java.util.function.BiFunction",
+			"java.util.function.ToIntBiFunction", "java.util.function.ToLongBiFunction", "java.util.function.ToDoubleBiFunction",
+			"java.util.function.IntBinaryOperator", "java.util.function.LongBinaryOperator", "java.util.function.DoubleBinaryOperator");
+	private static final List<String> JAVA_UTIL_ACTIONS = As.unmodifiableList("java.lang.Runnable", "java.util.function.Consumer",
+			"java.util.function.IntConsumer", "java.util.function.LongConsumer", "java.util.function.DoubleConsumer", "java.util.function.BiConsumer",
+			"java.util.function.ObjIntConsumer", "java.util.function.ObjLongConsumer", "java.util.function.ObjDoubleConsumer");
+	private static final List<String> JAVA_UTIL_PREDICATES = As.unmodifiableList("java.util.function.BooleanSupplier", "java.util.function.Predicate",
+			"java.util.function.IntPredicate", "java.util.function.LongPredicate", "java.util.function.DoublePredicate",
+			"java.util.function.BiPredicate");
 
 	public void rebuildMethod(final METHOD_TYPE method, final TemplateData template, final IParameterValidator<METHOD_TYPE> validation,
 			final IParameterSanitizer<METHOD_TYPE> sanitizer) {
 		final TYPE_TYPE type = method.surroundingType();
-		final TypeRef returnType = (template.forcedReturnType == null) ? method.boxedReturns() : Type(template.forcedReturnType);
-		final List<TypeRef> boxedArgumentTypes = new ArrayList<TypeRef>();
+		final TypeRef returnType;
+		if (template.forcedReturnType != null) {
+			returnType = Type(template.forcedReturnType);
+		} else {
+			returnType = template.primitiveReturn ? method.returns() : method.boxedReturns();
+		}
+		final List<TypeRef> typeArguments = new ArrayList<TypeRef>();
 		final List<Argument> arguments = withUnderscoreName(method.arguments(INCLUDE_ANNOTATIONS));
+		final List<Argument> plainArguments = method.arguments(INCLUDE_ANNOTATIONS);
+		plainArguments.removeAll(withUnderscoreName(plainArguments));
 		final List<Argument> boxedArguments = method.arguments(BOXED_TYPES, INCLUDE_ANNOTATIONS);
 		boxedArguments.removeAll(withUnderscoreName(boxedArguments));
-		for (Argument argument : boxedArguments) {
-			boxedArgumentTypes.add(argument.getType());
+		final List<Argument> innerArguments = new ArrayList<Argument>();
+		for (int i = 0, iend = boxedArguments.size(); i < iend; i++) {
+			if (template.primitiveParameters.contains(i)) {
+				innerArguments.add(plainArguments.get(i));
+			} else {
+				innerArguments.add(boxedArguments.get(i));
+				typeArguments.add(boxedArguments.get(i).getType());
+			}
 		}
 		if ((template.forcedReturnType == null) && method.returns("void")) {
 			method.editor().replaceReturns(Return(Null()));
 		}
-		final TypeRef interfaceType = Type(template.typeName).withTypeArguments(boxedArgumentTypes);
-		if (template.forcedReturnType == null) {
+		final TypeRef interfaceType = Type(template.typeName).withTypeArguments(typeArguments);
+		if ((template.forcedReturnType == null) && !template.primitiveReturn) {
 			interfaceType.withTypeArgument(returnType);
 		}
-		final MethodDecl innerMethod = MethodDecl(returnType, template.methodName).posHint(method.get()).withArguments(boxedArguments).makePublic().implementing() //
+		final MethodDecl innerMethod = MethodDecl(returnType, template.methodName).posHint(method.get()).withArguments(innerArguments).makePublic().implementing() //
 				.withStatements(validation.validateParameterOf(method)) //
 				.withStatements(sanitizer.sanitizeParameterOf(method)) //
 				.withStatements(method.statements());
 		if ((template.forcedReturnType == null) && method.returns("void")) {
 			innerMethod.withStatement(Return(Null()));
 		}
+		final Expression<?> instance = New(interfaceType).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+				.withMethod(innerMethod));
 		final MethodDecl methodReplacement = MethodDecl(interfaceType, method.name()).posHint(method.get()).withArguments(arguments).withTypeParameters(method.typeParameters())
-				.withAnnotations(method.annotations()) //
-				.withStatement(Return(New(interfaceType).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
-						.withMethod(innerMethod))));
+				.withAnnotations(method.annotations());
+		final String cachedInstanceName = "$" + method.name();
+		if (isNonCapturing(method, arguments) && !type.hasField(cachedInstanceName)) {
+			type.editor().injectField(FieldDecl(interfaceType, cachedInstanceName).makePrivate().makeStatic().makeFinal().withInitialization(instance));
+			methodReplacement.withStatement(Return(Name(cachedInstanceName)));
+		} else {
+			methodReplacement.withStatement(Return(instance));
+		}
 		if (method.isStatic()) methodReplacement.makeStatic();
 		methodReplacement.withAccessLevel(method.accessLevel());
 		type.editor().injectMethod(methodReplacement);
@@ -67,6 +103,14 @@ public final class ActionFunctionAndPredicateHandler<TYPE_TYPE extends IType<MET
 		type.editor().rebuild();
 	}
 
+	/**
+	 * A static method without {@code _}-prefixed parameters and without type parameters produces the same stateless
+	 * instance on every call, so it can be created once and cached.
+	 */
+	private boolean isNonCapturing(final METHOD_TYPE method, final List<Argument> capturedArguments) {
+		return method.isStatic() && capturedArguments.isEmpty() && method.typeParameters().isEmpty();
+	}
+
 	private List<Argument> withUnderscoreName(final List<Argument> arguments) {
 		final List<Argument> filtedList = new ArrayList<Argument>();
 		for (Argument argument : arguments) {
@@ -75,6 +119,45 @@ public final class ActionFunctionAndPredicateHandler<TYPE_TYPE extends IType<MET
 		return filtedList;
 	}
 
+	/**
+	 * The {@code java.util.function} interfaces that replace {@link Functions}, {@link Actions} or {@link Predicates}
+	 * when {@code javaUtilFunction = true} is set. They are referred to by name only, so the handlers don't need the
+	 * Java 8 class library themselves; the most specialized match is picked via {@link #mostSpecificTemplateOf(List)}.
+	 * 
+	 * @param forcedReturnType
+	 *            {@code null} for {@link Function}, {@code "void"} for {@link Action} and {@code "boolean"} for
+	 *            {@link Predicate}.
+	 */
+	public static List<String> javaUtilTemplatesFor(final String forcedReturnType) {
+		if ("void".equals(forcedReturnType)) return JAVA_UTIL_ACTIONS;
+		if ("boolean".equals(forcedReturnType)) return JAVA_UTIL_PREDICATES;
+		return JAVA_UTIL_FUNCTIONS;
+	}
+
+	/**
+	 * Picks the template with the most primitive-specialized parameters and return type, so for example
+	 * {@code int square(int)} ends up as {@code Functions.IntToIntFunction1} instead of
+	 * {@code Functions.Function1<Integer, Integer>}. If several templates are equally specialized, the next less
+	 * specialized candidate is tried, which means ambiguous specializations fall back to the generic template.
+	 * 
+	 * @return the most specialized template, or {@code null} if there is no unambiguous choice.
+	 */
+	public static TemplateData mostSpecificTemplateOf(final List<TemplateData> templates) {
+		final Map<Integer, List<TemplateData>> templatesBySpecificity = new TreeMap<Integer, List<TemplateData>>(Collections.reverseOrder());
+		for (TemplateData template : templates) {
+			List<TemplateData> candidates = templatesBySpecificity.get(template.specificity());
+			if (candidates == null) {
+				candidates = new ArrayList<TemplateData>();
+				templatesBySpecificity.put(template.specificity(), candidates);
+			}
+			candidates.add(template);
+		}
+		for (List<TemplateData> candidates : templatesBySpecificity.values()) {
+			if (candidates.size() == 1) return candidates.get(0);
+		}
+		return null;
+	}
+
 	@RequiredArgsConstructor
 	@Getter
 	@ToString
@@ -82,5 +165,12 @@ public final class ActionFunctionAndPredicateHandler<TYPE_TYPE extends IType<MET
 		private final String typeName;
 		private final String methodName;
 		private final String forcedReturnType;
+		/** Indices of the (non-{@code _}-prefixed) parameters the template declares as primitives. */
+		private final Set<Integer> primitiveParameters;
+		private final boolean primitiveReturn;
+
+		private int specificity() {
+			return primitiveParameters.size() + (primitiveReturn ? 1 : 0);
+		}
 	}
 }
@@ -31,12 +31,16 @@ import java.util.*;
 
 import lombok.*;
 import lombok.ast.*;
+import lombok.core.util.As;
 import lombok.core.util.Is;
 import lombok.core.util.Names;
 
 public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIELD_TYPE, ?, ?, ?, ?>, METHOD_TYPE extends IMethod<TYPE_TYPE, ?, ?, ?>, FIELD_TYPE extends IField<?, ?, ?, ?>> {
 	public static final String OPTIONAL_DEF = "OptionalDef";
 	public static final String BUILDER = "$Builder";
+	private static final String REUSABLE_BUILDER = "$reusableBuilder";
+	private static final String BUILD_ALL = "buildAll";
+	private static final List<String> PRESIZABLE_TYPES = As.unmodifiableList("ArrayList", "HashSet", "HashMap", "LinkedHashSet", "LinkedHashMap");
 
 	public void handleBuilder(final TYPE_TYPE type, final Builder builder) {
 		final BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE> builderData = new BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE>(type, builder).collect();
@@ -47,6 +51,12 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 
 		createConstructor(builderData);
 		createInitializeBuilderMethod(builderData);
+		if (builderData.isReusable()) {
+			createReusableBuilderMethod(builderData);
+		}
+		if (builderData.isBuildAll()) {
+			createBuildAllMethods(builderData);
+		}
 		createRequiredFieldInterfaces(builderData, builderMethods);
 		createOptionalFieldInterface(builderData, builderMethods);
 		createBuilder(builderData, interfaceTypes, builderMethods);
@@ -130,7 +140,7 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 
 		ConstructorDecl constructorDecl = ConstructorDecl(type.name()).makePrivate().withArgument(Arg(Type(BUILDER).withTypeArguments(type.typeArguments()), "builder").makeFinal()).withImplicitSuper();
 		for (final FIELD_TYPE field : builderData.getAllFields()) {
-			if (field.isFinal() && field.isInitialized()) {
+			if (field.isFinal() && field.isInitialized() && !builderData.isHandedOverOnBuild(field)) {
 				if (isCollection(field)) {
 					constructorDecl.withStatement(Call(Field(field.name()), "addAll").withArgument(Field(Name("builder"), field.filteredName())));
 				} else if (isMap(field)) {
@@ -165,6 +175,53 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 				.withStatement(Return(New(Type(BUILDER).withTypeArguments(type.typeArguments())))));
 	}
 
+	private void createReusableBuilderMethod(final BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE> builderData) {
+		final TYPE_TYPE type = builderData.getType();
+		if (!type.typeParameters().isEmpty()) {
+			type.node().addWarning("@Builder(reusable=true) is not supported on generic types, no reusable builder was generated.");
+			return;
+		}
+		final TypeRef fieldDefType = builderData.getRequiredFields().isEmpty() ? Type(OPTIONAL_DEF) : builderData.getRequiredFieldDefTypes().get(0);
+		type.editor().injectField(FieldDecl(Type(ThreadLocal.class).withTypeArgument(Type(BUILDER)), REUSABLE_BUILDER).makePrivate().makeStatic().makeFinal() //
+				.withInitialization(New(Type(ThreadLocal.class).withTypeArgument(Type(BUILDER))).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+						.withMethod(MethodDecl(Type(BUILDER), "initialValue").makeProtected().withStatement(Return(New(Type(BUILDER))))))));
+		type.editor().injectMethod(MethodDecl(fieldDefType, camelCase("reusable", type.name())).makeStatic().withAccessLevel(builderData.getLevel()) //
+				.withStatement(Return(Call(Call(Name(REUSABLE_BUILDER), "get"), "reset"))));
+	}
+
+	private void createBuildAllMethods(final BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE> builderData) {
+		final TYPE_TYPE type = builderData.getType();
+		if (!type.typeParameters().isEmpty()) {
+			type.node().addWarning("@Builder(buildAll=true) is not supported on generic types, no buildAll method was generated.");
+			return;
+		}
+		final List<FIELD_TYPE> fields = builderData.getAllFields();
+		if (fields.isEmpty()) {
+			type.node().addWarning("@Builder(buildAll=true) requires at least one field, no buildAll method was generated.");
+			return;
+		}
+		final MethodDecl presizingMethod = MethodDecl(Type(type.name()).withDimensions(1), BUILD_ALL).makeStatic().withAccessLevel(builderData.getLevel());
+		final Call delegation = Call(BUILD_ALL);
+		final MethodDecl fillingMethod = MethodDecl(Type(type.name()).withDimensions(1), BUILD_ALL).makeStatic().withAccessLevel(builderData.getLevel());
+		final Block loopBody = Block();
+		for (final FIELD_TYPE field : fields) {
+			presizingMethod.withArgument(Arg(field.type().withDimensions(1), field.filteredName()).makeFinal());
+			delegation.withArgument(Name(field.filteredName()));
+			fillingMethod.withArgument(Arg(field.type().withDimensions(1), field.filteredName()).makeFinal());
+			loopBody.withStatement(Assign(Field(Name("$builder"), field.filteredName()), ArrayRef(Name(field.filteredName()), Name("$i"))));
+		}
+		delegation.withArgument(NewArray(Type(type.name())).withDimensionExpression(Field(Name(fields.get(0).filteredName()), "length")));
+		type.editor().injectMethod(presizingMethod.withStatement(Return(delegation)));
+
+		loopBody.withStatement(Assign(ArrayRef(Name("$result"), Name("$i")), New(Type(type.name())).withArgument(Name("$builder")))) //
+				.withStatement(Assign(Name("$i"), Add(Name("$i"), Number(1))));
+		type.editor().injectMethod(fillingMethod.withArgument(Arg(Type(type.name()).withDimensions(1), "$result").makeFinal()) //
+				.withStatement(LocalDecl(Type(BUILDER), "$builder").makeFinal().withInitialization(New(Type(BUILDER)))) //
+				.withStatement(LocalDecl(Type("int"), "$i").withInitialization(Number(0))) //
+				.withStatement(While(Binary(Name("$i"), "<", Field(Name("$result"), "length"))).Do(loopBody)) //
+				.withStatement(Return(Name("$result"))));
+	}
+
 	private void createRequiredFieldInterfaces(final BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE> builderData, final List<AbstractMethodDecl<?>> builderMethods) {
 		List<FIELD_TYPE> fields = builderData.getRequiredFields();
 		if (!fields.isEmpty()) {
@@ -301,8 +358,22 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 	private void createBuildMethod(final BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE> builderData, final String typeName, final List<AbstractMethodDecl<?>> interfaceMethods,
 			final List<AbstractMethodDecl<?>> builderMethods) {
 		TYPE_TYPE type = builderData.getType();
-		builderMethods.add(MethodDecl(Type(typeName).withTypeArguments(type.typeArguments()), "build").makePublic().implementing() //
-				.withStatement(Return(New(Type(typeName).withTypeArguments(type.typeArguments())).withArgument(This()))));
+		final MethodDecl buildMethod = MethodDecl(Type(typeName).withTypeArguments(type.typeArguments()), "build").makePublic().implementing();
+		final List<FIELD_TYPE> handedOverFields = new ArrayList<FIELD_TYPE>();
+		for (FIELD_TYPE field : builderData.getAllFields()) {
+			if (builderData.isHandedOverOnBuild(field)) handedOverFields.add(field);
+		}
+		if (handedOverFields.isEmpty()) {
+			buildMethod.withStatement(Return(New(Type(typeName).withTypeArguments(type.typeArguments())).withArgument(This())));
+		} else {
+			buildMethod.withStatement(LocalDecl(Type(typeName).withTypeArguments(type.typeArguments()), "built").makeFinal() //
+					.withInitialization(New(Type(typeName).withTypeArguments(type.typeArguments())).withArgument(This())));
+			for (FIELD_TYPE field : handedOverFields) {
+				buildMethod.withStatement(Assign(Field(field.filteredName()), builderData.initializerOf(field)));
+			}
+			buildMethod.withStatement(Return(Name("built")));
+		}
+		builderMethods.add(buildMethod);
 		interfaceMethods.add(MethodDecl(Type(typeName).withTypeArguments(type.typeArguments()), "build").makePublic().withNoBody());
 	}
 
@@ -311,9 +382,10 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 		final TypeRef fieldDefType = builderData.getRequiredFields().isEmpty() ? Type(OPTIONAL_DEF) : builderData.getRequiredFieldDefTypes().get(0);
 		MethodDecl methodDecl = MethodDecl(fieldDefType, "reset").makePublic().implementing();
 		for (final FIELD_TYPE field : builderData.getAllFields()) {
-			if (field.isInitialized()) {
-				String fieldDefaultMethodName = "$" + field.filteredName() + "Default";
-				methodDecl.withStatement(Assign(Field(field.filteredName()), Call(fieldDefaultMethodName)));
+			if (builderData.isClearedOnReset(field)) {
+				methodDecl.withStatement(Call(Field(field.filteredName()), "clear"));
+			} else if (field.isInitialized()) {
+				methodDecl.withStatement(Assign(Field(field.filteredName()), builderData.initializerOf(field)));
 			} else {
 				methodDecl.withStatement(Assign(Field(field.filteredName()), DefaultValue(field.type())));
 			}
@@ -361,12 +433,28 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 		List<AbstractMethodDecl<?>> builderFieldDefaultMethods = new ArrayList<AbstractMethodDecl<?>>();
 		for (FIELD_TYPE field : builderData.getAllFields()) {
 			FieldDecl builderField = FieldDecl(field.type(), field.filteredName()).makePrivate();
+			if ((field.getAnnotation(Builder.Capacity.class) != null) && (builderData.capacityOf(field) == null)) {
+				field.getAnnotation(Builder.Capacity.class).addWarning(
+						"@Builder.Capacity is only supported on fields initialized with a new ArrayList, HashSet, HashMap, LinkedHashSet or LinkedHashMap and was ignored.");
+			}
 			if (field.isInitialized()) {
 				String fieldDefaultMethodName = "$" + field.filteredName() + "Default";
 				builderFieldDefaultMethods.add(MethodDecl(field.type(), fieldDefaultMethodName).makeStatic().withTypeParameters(type.typeParameters()) //
 						.withStatement(Return(field.initialization())));
-				builderField.withInitialization(Call(fieldDefaultMethodName));
-				field.editor().replaceInitialization(Call(Name(BUILDER), fieldDefaultMethodName));
+				final Integer capacity = builderData.capacityOf(field);
+				if (capacity != null) {
+					builderFieldDefaultMethods.add(createBufferMethod(builderData, field, capacity));
+				}
+				if (builderData.isDefaultCached(field)) {
+					builderFields.add(FieldDecl(field.type(), builderData.cachedDefaultNameOf(field)).makePrivate().makeStatic().makeFinal() //
+							.withInitialization(Call(fieldDefaultMethodName)));
+				}
+				builderField.withInitialization(builderData.initializerOf(field));
+				if (builderData.isFieldInitializerRedundant(field)) {
+					field.editor().replaceInitialization(null);
+				} else {
+					field.editor().replaceInitialization(Call(Name(BUILDER), fieldDefaultMethodName));
+				}
 			}
 			builderFields.add(builderField);
 		}
@@ -377,6 +465,38 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 				.withMethod(ConstructorDecl(BUILDER).makePrivate().withImplicitSuper()));
 	}
 
+	/**
+	 * The buffer is of the same type the field initializer creates, just with an initial capacity. That way the
+	 * builder neither changes the iteration order of the collection nor copies anything.
+	 */
+	private MethodDecl createBufferMethod(final BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE> builderData, final FIELD_TYPE field, final int capacity) {
+		final String bufferType = field.instantiatedType();
+		final Expression<?> initialCapacity = isHashBased(bufferType) ? Number(hashCapacityFor(capacity)) : Number(capacity);
+		return MethodDecl(field.type(), builderData.initializerMethodNameOf(field)).makeStatic().withTypeParameters(builderData.getType().typeParameters()) //
+				.withStatement(Return(New(Type(bufferType).withTypeArguments(field.typeArguments())).withArgument(initialCapacity)));
+	}
+
+	/**
+	 * Hash based buffers resize once they are filled to 75%, so they need a bit more room than the expected number of
+	 * elements.
+	 */
+	private static int hashCapacityFor(final int expectedSize) {
+		return (int) (expectedSize / 0.75f) + 1;
+	}
+
+	private static <FIELD_TYPE extends IField<?, ?, ?, ?>> boolean isPresizable(final FIELD_TYPE field) {
+		final String instantiatedType = field.instantiatedType();
+		if (instantiatedType == null) return false;
+		for (String presizableType : PRESIZABLE_TYPES) {
+			if (instantiatedType.equals(presizableType) || instantiatedType.equals("java.util." + presizableType)) return true;
+		}
+		return false;
+	}
+
+	private static boolean isHashBased(final String typeName) {
+		return typeName.endsWith("HashSet") || typeName.endsWith("HashMap");
+	}
+
 	private static <FIELD_TYPE extends IField<?, ?, ?, ?>> boolean isInitializedMapOrCollection(final FIELD_TYPE field) {
 		return (isMap(field) || isCollection(field)) && field.isInitialized();
 	}
@@ -402,6 +522,10 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 		private final List<String> callMethods;
 		private final boolean generateConvenientMethodsEnabled;
 		private final boolean resetAllowed;
+		private final boolean transferCollections;
+		private final boolean reusable;
+		private final boolean buildAll;
+		private final boolean ownsAllConstructors;
 		private final AccessLevel level;
 		private final Set<String> excludes;
 
@@ -412,7 +536,15 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 			methodPrefix = builder.prefix();
 			callMethods = Arrays.asList(builder.callMethods());
 			level = builder.value();
-			resetAllowed = builder.allowReset();
+			reusable = builder.reusable();
+			resetAllowed = builder.allowReset() || reusable;
+			transferCollections = builder.transferCollections();
+			buildAll = builder.buildAll();
+			boolean hasConstructors = false;
+			for (METHOD_TYPE method : type.methods()) {
+				hasConstructors |= method.isConstructor();
+			}
+			ownsAllConstructors = !hasConstructors;
 		}
 
 		public BuilderData<TYPE_TYPE, METHOD_TYPE, FIELD_TYPE> collect() {
@@ -440,6 +572,57 @@ public class BuilderAndExtensionHandler<TYPE_TYPE extends IType<METHOD_TYPE, FIE
 			return allFields;
 		}
 
+		/**
+		 * Whether the built object takes over the builder's collection or map instead of copying its elements, in that
+		 * case the builder needs a fresh one after each build.
+		 */
+		public boolean isHandedOverOnBuild(final FIELD_TYPE field) {
+			if (!isInitializedMapOrCollection(field)) return false;
+			if (!field.isFinal()) return transferCollections;
+			return transferCollections && ownsAllConstructors;
+		}
+
+		/**
+		 * Handed over final collections are assigned by the generated constructor, so they must not be initialized.
+		 */
+		public boolean isFieldInitializerRedundant(final FIELD_TYPE field) {
+			return field.isFinal() && isHandedOverOnBuild(field);
+		}
+
+		/**
+		 * The elements of a final collection or map are copied into the built object, so on reset the builder can keep
+		 * its instance and just clear it, as long as the field initializer creates an empty one.
+		 */
+		public boolean isClearedOnReset(final FIELD_TYPE field) {
+			return field.isFinal() && isInitializedMapOrCollection(field) && !isHandedOverOnBuild(field) && (field.instantiatedType() != null);
+		}
+
+		/**
+		 * Reusable builders are reset very often, so a default that is a literal is evaluated only once. Just like the
+		 * reusable builder itself, this is not supported on generic types, since the static field can't use the type parameters.
+		 */
+		public boolean isDefaultCached(final FIELD_TYPE field) {
+			return reusable && type.typeParameters().isEmpty() && field.isInitializedWithLiteral();
+		}
+
+		public String cachedDefaultNameOf(final FIELD_TYPE field) {
+			return "$" + field.filteredName() + "DefaultValue";
+		}
+
+		public Expression<?> initializerOf(final FIELD_TYPE field) {
+			if (isDefaultCached(field)) return Name(cachedDefaultNameOf(field));
+			return Call(initializerMethodNameOf(field));
+		}
+
+		public Integer capacityOf(final FIELD_TYPE field) {
+			if (!isInitializedMapOrCollection(field) || !isPresizable(field) || (field.getAnnotation(Builder.Capacity.class) == null)) return null;
+			return field.getAnnotationValue(Builder.Capacity.class).getInstance().value();
+		}
+
+		public String initializerMethodNameOf(final FIELD_TYPE field) {
+			return "$" + field.filteredName() + ((capacityOf(field) == null) ? "Default" : "Buffer");
+		}
+
 		public List<String> getAllFieldNames() {
 			List<String> allFieldNames = new ArrayList<String>(getRequiredFieldNames());
 			allFieldNames.addAll(getOptionalFieldNames());
@@ -26,6 +26,7 @@ import static lombok.core.util.ErrorMessages.*;
 import static lombok.core.util.Names.*;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.*;
 
 import lombok.*;
@@ -34,12 +35,19 @@ import lombok.core.DiagnosticsReceiver;
 
 @RequiredArgsConstructor
 public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE, ?, ?, ?, ?, ?>, METHOD_TYPE extends IMethod<TYPE_TYPE, ?, ?, ?>> {
+	private static final String LOCK_METRICS_STATS = "lombok.LockMetrics.Stats";
 	private final TYPE_TYPE type;
 	private final METHOD_TYPE method;
 	private final DiagnosticsReceiver diagnosticsReceiver;
 	private AwaitData await;
 	private SignalData signal;
 	private String lockMethod;
+	private boolean optimistic;
+	private boolean stamped;
+	private String stripedBy;
+	private int stripes;
+	private TimeoutData timeout;
+	private boolean metrics;
 
 	public ConditionAndLockHandler<TYPE_TYPE, METHOD_TYPE> withAwait(final AwaitData await) {
 		this.await = await;
@@ -56,6 +64,27 @@ public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE,
 		return this;
 	}
 
+	public ConditionAndLockHandler<TYPE_TYPE, METHOD_TYPE> withOptimistic(final boolean optimistic) {
+		this.optimistic = optimistic;
+		return this;
+	}
+
+	public ConditionAndLockHandler<TYPE_TYPE, METHOD_TYPE> withStripes(final String stripedBy, final int stripes) {
+		this.stripedBy = trim(stripedBy);
+		this.stripes = stripes;
+		return this;
+	}
+
+	public ConditionAndLockHandler<TYPE_TYPE, METHOD_TYPE> withTimeout(final TimeoutData timeout) {
+		this.timeout = timeout;
+		return this;
+	}
+
+	public ConditionAndLockHandler<TYPE_TYPE, METHOD_TYPE> withMetrics(final boolean metrics) {
+		this.metrics = metrics;
+		return this;
+	}
+
 	public boolean preHandle(final String lockName, final Class<? extends java.lang.annotation.Annotation> annotationType) {
 		if (method == null) {
 			diagnosticsReceiver.addError(canBeUsedOnMethodOnly(annotationType));
@@ -75,7 +104,16 @@ public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE,
 		String annotationTypeName = annotationType.getSimpleName();
 		String completeLockName = createCompleteLockName(lockName, isReadWriteLock);
 
+		if (isInterruptible() && !throwsInterruptedException()) {
+			diagnosticsReceiver.addError(String.format("@%s(interruptible=true) requires the method to declare 'throws InterruptedException'.", annotationTypeName));
+			return false;
+		}
+		if (isSignalIfWaiters() && !isReentrantLock(completeLockName)) {
+			diagnosticsReceiver.addError(String.format("@%s(ifWaiters=true) requires '%s' to be a java.util.concurrent.locks.ReentrantLock.", annotationTypeName, completeLockName));
+			return false;
+		}
 		if (!tryToAddLockField(completeLockName, isReadWriteLock, annotationTypeName)) return false;
+		if (!tryToAddMetricsField(completeLockName, annotationTypeName)) return false;
 
 		if (!isReadWriteLock) {
 			if (!tryToAddConditionField(await, completeLockName, annotationTypeName)) return false;
@@ -93,40 +131,237 @@ public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE,
 		String annotationTypeName = annotationType.getSimpleName();
 		String completeLockName = createCompleteLockName(lockName, isReadWriteLock);
 
+		final List<Statement<?>> validateStatements = validation.validateParameterOf(method);
+		final Map<String, String> sanitizedNames = new HashMap<String, String>();
+		final List<Statement<?>> sanitizeStatements = sanitizer.sanitizeParameterOf(method, sanitizedNames);
+
 		List<Statement<?>> beforeMethodBlock = new ArrayList<Statement<?>>();
 		List<Statement<?>> afterMethodBlock = new ArrayList<Statement<?>>();
 
 		if (!isReadWriteLock) {
-			if (!getConditionStatements(await, completeLockName, annotationTypeName, beforeMethodBlock, afterMethodBlock)) return;
-			if (!getConditionStatements(signal, completeLockName, annotationTypeName, beforeMethodBlock, afterMethodBlock)) return;
+			if (!getConditionStatements(await, completeLockName, annotationTypeName, sanitizedNames, beforeMethodBlock, afterMethodBlock)) return;
+			if (!getConditionStatements(signal, completeLockName, annotationTypeName, sanitizedNames, beforeMethodBlock, afterMethodBlock)) return;
 		}
 
-		final Call lockCall;
-		final Call unLockCall;
-		if (isReadWriteLock) {
-			lockCall = Call(Call(Field(completeLockName), lockMethod), "lock");
-			unLockCall = Call(Call(Field(completeLockName), lockMethod), "unlock");
+		final Block body = Block().posHint(method.get()).withStatements(validateStatements).withStatements(sanitizeStatements);
+
+		if (isStriped()) {
+			body.withStatements(stripedLockStatements(completeLockName, sanitizedNames));
+		} else if (stamped) {
+			if (optimistic && "readLock".equals(lockMethod)) {
+				body.withStatements(optimisticReadStatements(completeLockName, sanitizedNames));
+			} else {
+				body.withStatements(stampedLockStatements(completeLockName));
+			}
 		} else {
-			lockCall = Call(Field(completeLockName), "lock");
-			unLockCall = Call(Field(completeLockName), "unlock");
-		}
-
-		method.editor().replaceBody(Block().posHint(method.get()) //
-				.withStatements(validation.validateParameterOf(method)) //
-				.withStatements(sanitizer.sanitizeParameterOf(method)) //
-				.withStatement(lockCall) //
-				.withStatement(Try(Block() //
-						.withStatements(beforeMethodBlock) //
-						.withStatements(method.statements()) //
-						.withStatements(afterMethodBlock)//
-						).Finally(Block() //
-								.withStatement(unLockCall) //
-						) //
-				));
+			body.withStatements(acquireStatements(completeLockName, sanitizedNames)) //
+					.withStatement(Try(Block() //
+							.withStatements(beforeMethodBlock) //
+							.withStatements(method.statements()) //
+							.withStatements(afterMethodBlock)//
+							).Finally(Block() //
+									.withStatements(releaseStatements(completeLockName)) //
+							) //
+					);
+		}
 
+		method.editor().replaceBody(body);
 		method.editor().rebuild();
 	}
 
+	private Expression<?> lockExpression(final String lockName) {
+		if (isStriped()) return Call(Name("$lock"), lockMethod);
+		return lockMethod == null ? Field(lockName) : Call(Field(lockName), lockMethod);
+	}
+
+	/**
+	 * With metrics enabled an uncontended {@code tryLock()} is attempted first, that way only contended acquisitions
+	 * are counted as such and contribute to the wait time.
+	 */
+	private List<Statement<?>> acquireStatements(final String lockName, final Map<String, String> sanitizedNames) {
+		final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+		if (!metrics) {
+			statements.add(lockStatement(lockName, sanitizedNames));
+			return statements;
+		}
+		statements.add(LocalDecl(Type("long"), "$requested").makeFinal().withInitialization(Call(Name(System.class), "nanoTime")));
+		statements.add(LocalDecl(Type("boolean"), "$uncontended").makeFinal().withInitialization(Call(lockExpression(lockName), "tryLock")));
+		statements.add(If(Not(Name("$uncontended"))).Then(Block().withStatement(lockStatement(lockName, sanitizedNames))));
+		statements.add(LocalDecl(Type("long"), "$acquired").makeFinal().withInitialization(Call(Name(System.class), "nanoTime")));
+		if (await != null) statements.add(LocalDecl(Type("long"), "$awaitedNanos").withInitialization(Number(0L)));
+		return statements;
+	}
+
+	private List<Statement<?>> releaseStatements(final String lockName) {
+		final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+		statements.add(Call(lockExpression(lockName), "unlock"));
+		if (metrics) {
+			Expression<?> holdNanos = Binary(Call(Name(System.class), "nanoTime"), "-", Name("$acquired"));
+			if (await != null) holdNanos = Binary(holdNanos, "-", Name("$awaitedNanos"));
+			statements.add(Call(Name(metricsFieldName(lockName)), "record").withArgument(Not(Name("$uncontended"))) //
+					.withArgument(Binary(Name("$acquired"), "-", Name("$requested"))) //
+					.withArgument(holdNanos));
+		}
+		return statements;
+	}
+
+	private String metricsFieldName(final String lockName) {
+		return (lockName.startsWith("$") ? "" : "$") + lockName + "Metrics";
+	}
+
+	private Statement<?> lockStatement(final String lockName, final Map<String, String> sanitizedNames) {
+		final Expression<?> lock = lockExpression(lockName);
+		if (!isTimed()) return Call(lock, isInterruptible() ? "lockInterruptibly" : "lock");
+		final String message = String.format("Could not acquire '%s' within %s %s.", lockName, timeout.timeout, timeout.unit.name().toLowerCase());
+		final If tryLock = If(Not(Call(lock, "tryLock").withArgument(Number(timeout.timeout)).withArgument(timeout.unitExpression()))) //
+				.Then(timeoutBlock(message, sanitizedNames));
+		if (isInterruptible()) return tryLock;
+		return Try(Block().withStatement(tryLock)) //
+				.Catch(Arg(Type(InterruptedException.class), "$e"), Block() //
+						.withStatement(Call(Call(Name(Thread.class), "currentThread"), "interrupt")) //
+						.withStatement(Throw(New(Type(RuntimeException.class)).withArgument(Name("$e")))));
+	}
+
+	private Block timeoutBlock(final String message, final Map<String, String> sanitizedNames) {
+		final String fallbackMethod = trim(timeout.fallbackMethod);
+		if (fallbackMethod.isEmpty()) {
+			return Block().withStatement(Throw(New(Type(timeout.exception)).withArgument(String(message))));
+		}
+		final Call fallback = Call(This(), fallbackMethod);
+		for (Argument argument : method.arguments()) {
+			fallback.withArgument(Name(sanitizedNames.get(argument.getName())));
+		}
+		if (method.returns("void")) {
+			return Block().withStatement(fallback).withStatement(Return());
+		}
+		return Block().withStatement(Return(fallback));
+	}
+
+	private boolean isInterruptible() {
+		return (await != null) && await.interruptible;
+	}
+
+	private boolean throwsInterruptedException() {
+		return method.throwsException("InterruptedException") || method.throwsException("Exception") || method.throwsException("Throwable");
+	}
+
+	private boolean isSignalIfWaiters() {
+		return (signal != null) && signal.ifWaiters;
+	}
+
+	/**
+	 * The injected lock is always a {@link java.util.concurrent.locks.ReentrantLock ReentrantLock}, a declared one has to
+	 * be declared as such, since {@code hasWaiters(Condition)} is invoked on it after a cast.
+	 */
+	private boolean isReentrantLock(final String lockName) {
+		final IField<?, ?, ?, ?> field = fieldOf(lockName);
+		return (field == null) || field.isOfType("ReentrantLock");
+	}
+
+	private boolean isTimed() {
+		return (timeout != null) && (timeout.timeout >= 0);
+	}
+
+	private List<Statement<?>> stampedLockStatements(final String lockName) {
+		final String unlockMethod = "readLock".equals(lockMethod) ? "unlockRead" : "unlockWrite";
+		final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+		statements.add(LocalDecl(Type("long"), "$stamp").makeFinal().withInitialization(Call(Field(lockName), lockMethod)));
+		statements.add(Try(Block().withStatements(method.statements())) //
+				.Finally(Block().withStatement(Call(Field(lockName), unlockMethod).withArgument(Name("$stamp")))));
+		return statements;
+	}
+
+	/**
+	 * Moves the method body into a private helper, that is first invoked without holding any lock and afterwards
+	 * validated against the stamp. If a writer intervened, the helper is invoked again while holding the real read lock.
+	 * A {@link RuntimeException} thrown during an invalidated optimistic attempt is considered a result of
+	 * inconsistent reads and leads to the locked retry as well.
+	 */
+	private List<Statement<?>> optimisticReadStatements(final String lockName, final Map<String, String> sanitizedNames) {
+		final String helperName = "$" + method.name();
+		final MethodDecl helper = MethodDecl(method.returns(), helperName).makePrivate() //
+				.withTypeParameters(method.typeParameters()) //
+				.withThrownExceptions(method.thrownExceptions());
+		final List<String> argumentNames = new ArrayList<String>();
+		for (Argument argument : method.arguments()) {
+			final String argumentName = sanitizedNames.get(argument.getName());
+			helper.withArgument(Arg(argument.getType(), argumentName));
+			argumentNames.add(argumentName);
+		}
+		helper.withStatements(method.statements());
+		type.editor().injectMethod(helper);
+
+		final boolean returnsVoid = method.returns("void");
+		final Block validatedAttempt = Block();
+		if (returnsVoid) {
+			validatedAttempt.withStatement(helperCall(helperName, argumentNames)) //
+					.withStatement(If(Call(Field(lockName), "validate").withArgument(Name("$optimisticStamp"))).Then(Block().withStatement(Return())));
+		} else {
+			validatedAttempt.withStatement(LocalDecl(method.returns(), "$result").makeFinal().withInitialization(helperCall(helperName, argumentNames))) //
+					.withStatement(If(Call(Field(lockName), "validate").withArgument(Name("$optimisticStamp"))).Then(Block().withStatement(Return(Name("$result")))));
+		}
+
+		final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+		statements.add(LocalDecl(Type("long"), "$optimisticStamp").makeFinal().withInitialization(Call(Field(lockName), "tryOptimisticRead")));
+		statements.add(If(NotEqual(Name("$optimisticStamp"), Number(0))).Then(Block() //
+				.withStatement(Try(validatedAttempt) //
+						.Catch(Arg(Type(RuntimeException.class), "$e"), Block() //
+								.withStatement(If(Call(Field(lockName), "validate").withArgument(Name("$optimisticStamp"))).Then(Block().withStatement(Throw(Name("$e")))))))));
+		statements.add(LocalDecl(Type("long"), "$stamp").makeFinal().withInitialization(Call(Field(lockName), "readLock")));
+		final Call lockedCall = helperCall(helperName, argumentNames);
+		statements.add(Try(Block().withStatement(returnsVoid ? lockedCall : Return(lockedCall))) //
+				.Finally(Block().withStatement(Call(Field(lockName), "unlockRead").withArgument(Name("$stamp")))));
+		return statements;
+	}
+
+	private List<Statement<?>> stripedLockStatements(final String lockName, final Map<String, String> sanitizedNames) {
+		tryToAddStripeOfMethod();
+		final Call stripe = Call("$stripeOf").withArgument(Name(sanitizedNames.get(stripedBy))).withArgument(Field(Field(lockName), "length"));
+		final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+		statements.add(LocalDecl(Type(ReadWriteLock.class), "$lock").makeFinal().withInitialization(ArrayRef(Field(lockName), stripe)));
+		statements.addAll(acquireStatements(lockName, sanitizedNames));
+		statements.add(Try(Block().withStatements(method.statements())) //
+				.Finally(Block().withStatements(releaseStatements(lockName))));
+		return statements;
+	}
+
+	/**
+	 * Spreads the higher bits of the hash code, that way power of two stripe counts use all of them.
+	 * Primitive keys get boxed on the call, which the JIT usually eliminates after inlining.
+	 */
+	private void tryToAddStripeOfMethod() {
+		if (type.hasMethod("$stripeOf", Type(Object.class), Type("int"))) return;
+		type.editor().injectMethod(MethodDecl(Type("int"), "$stripeOf").makePrivate() //
+				.withArgument(Arg(Type(Object.class), "key")).withArgument(Arg(Type("int"), "stripes")) //
+				.withStatement(If(Equal(Name("key"), Null())).Then(Block().withStatement(Return(Number(0))))) //
+				.withStatement(LocalDecl(Type("int"), "hash").makeFinal().withInitialization(Call(Name("key"), "hashCode"))) //
+				.withStatement(Return(Binary(Binary(Binary(Name("hash"), "^", Binary(Name("hash"), ">>>", Number(16))), "&", Field(Name(Integer.class), "MAX_VALUE")), "%", Name("stripes")))));
+	}
+
+	/**
+	 * Creates the locks in a loop, that way the field initializer stays small for large stripe counts.
+	 */
+	private void tryToAddStripedLocksMethod() {
+		if (type.hasMethod("$stripedLocks", Type("int"))) return;
+		type.editor().injectMethod(MethodDecl(Type(ReadWriteLock.class).withDimensions(1), "$stripedLocks").makePrivate() //
+				.withArgument(Arg(Type("int"), "stripes")) //
+				.withStatement(LocalDecl(Type(ReadWriteLock.class).withDimensions(1), "locks").makeFinal() //
+						.withInitialization(NewArray(Type(ReadWriteLock.class)).withDimensionExpression(Name("stripes")))) //
+				.withStatement(LocalDecl(Type("int"), "i").withInitialization(Number(0))) //
+				.withStatement(While(Binary(Name("i"), "<", Name("stripes"))).Do(Block() //
+						.withStatement(Assign(ArrayRef(Name("locks"), Name("i")), New(Type(ReentrantReadWriteLock.class)))) //
+						.withStatement(Assign(Name("i"), Add(Name("i"), Number(1)))))) //
+				.withStatement(Return(Name("locks"))));
+	}
+
+	private Call helperCall(final String helperName, final List<String> argumentNames) {
+		final Call call = Call(This(), helperName);
+		for (String argumentName : argumentNames) {
+			call.withArgument(Name(argumentName));
+		}
+		return call;
+	}
+
 	private String createCompleteLockName(final String lockName, final boolean isReadWriteLock) {
 		String completeLockName = lockName;
 		if ((!isReadWriteLock) && trim(lockName).isEmpty()) {
@@ -137,19 +372,32 @@ public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE,
 		return completeLockName;
 	}
 
-	private boolean getConditionStatements(final ConditionData condition, final String lockName, final String annotationTypeName, final List<Statement<?>> before,
-			final List<Statement<?>> after) {
+	private boolean getConditionStatements(final ConditionData condition, final String lockName, final String annotationTypeName,
+			final Map<String, String> sanitizedNames, final List<Statement<?>> before, final List<Statement<?>> after) {
 		if (condition == null) {
 			return true;
 		}
 		if (tryToAddConditionField(condition, lockName, annotationTypeName)) {
+			final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+			if ((condition instanceof AwaitData) && isTimed()) {
+				final String message = String.format("Condition '%s' was not met within %s %s.", condition.condition, timeout.timeout, timeout.unit.name().toLowerCase());
+				statements.addAll(((AwaitData) condition).toStatements(timeout, timeoutBlock(message, sanitizedNames)));
+			} else if (condition instanceof SignalData) {
+				statements.add(((SignalData) condition).toStatement(lockName));
+			} else {
+				statements.add(condition.toStatement());
+			}
+			if ((condition instanceof AwaitData) && metrics) {
+				statements.add(0, LocalDecl(Type("long"), "$awaitStarted").makeFinal().withInitialization(Call(Name(System.class), "nanoTime")));
+				statements.add(Assign(Name("$awaitedNanos"), Binary(Call(Name(System.class), "nanoTime"), "-", Name("$awaitStarted"))));
+			}
 			switch (condition.pos) {
 			case BEFORE:
-				before.add(condition.toStatement());
+				before.addAll(statements);
 				break;
 			default:
 			case AFTER:
-				after.add(condition.toStatement());
+				after.addAll(statements);
 				break;
 			}
 			return true;
@@ -163,6 +411,50 @@ public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE,
 			diagnosticsReceiver.addError(String.format("@%s 'lockName' may not be empty or null.", annotationTypeName));
 			return false;
 		}
+		if (isStriped()) {
+			if (!isStripedByArgument()) {
+				diagnosticsReceiver.addError(String.format("@%s 'stripedBy' must name an argument of the method.", annotationTypeName));
+				return false;
+			}
+			if (stripes < 1) {
+				diagnosticsReceiver.addError(String.format("@%s 'stripes' must be positive.", annotationTypeName));
+				return false;
+			}
+			if (optimistic) {
+				diagnosticsReceiver.addError(String.format("@%s 'stripedBy' can not be combined with optimistic reads.", annotationTypeName));
+				return false;
+			}
+			if (!hasConsistentStripes(trimmedLockName, annotationTypeName)) return false;
+			final IField<?, ?, ?, ?> existingField = fieldOf(trimmedLockName);
+			if (existingField == null) {
+				tryToAddStripedLocksMethod();
+				type.editor().injectField(FieldDecl(Type(ReadWriteLock.class).withDimensions(1), trimmedLockName).makePrivate().makeFinal() //
+						.withInitialization(Call("$stripedLocks").withArgument(Number(stripes))));
+			} else if (!existingField.isArray()) {
+				diagnosticsReceiver.addError(String.format("@%s(stripedBy=\"%s\") requires '%s' to be an array of locks.", annotationTypeName, stripedBy, trimmedLockName));
+				return false;
+			}
+			return true;
+		}
+		if (isReadWriteLock && !hasConsistentStripes(trimmedLockName, annotationTypeName)) return false;
+		final IField<?, ?, ?, ?> existingField = fieldOf(trimmedLockName);
+		if ((existingField != null) && existingField.isArray()) {
+			diagnosticsReceiver.addError(String.format("@%s '%s' is an array of striped locks, so 'stripedBy' and 'stripes' are required.", annotationTypeName, trimmedLockName));
+			return false;
+		}
+		stamped = isReadWriteLock && isStampedLock(trimmedLockName);
+		if (stamped && metrics) {
+			diagnosticsReceiver.addError(String.format("@%s 'metrics' is not supported for a java.util.concurrent.locks.StampedLock.", annotationTypeName));
+			return false;
+		}
+		if (stamped && isTimed()) {
+			diagnosticsReceiver.addError(String.format("@%s 'timeout' is not supported for a java.util.concurrent.locks.StampedLock.", annotationTypeName));
+			return false;
+		}
+		if (optimistic && !stamped) {
+			diagnosticsReceiver.addError(String.format("@%s(optimistic=true) requires '%s' to be declared as a java.util.concurrent.locks.StampedLock.", annotationTypeName, trimmedLockName));
+			return false;
+		}
 		if (!type.hasField(trimmedLockName)) {
 			if (isReadWriteLock) {
 				type.editor().injectField(FieldDecl(Type(ReadWriteLock.class), trimmedLockName).makePrivate().makeFinal() //
@@ -175,6 +467,86 @@ public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE,
 		return true;
 	}
 
+	private boolean isStriped() {
+		return (lockMethod != null) && (stripedBy != null) && !stripedBy.isEmpty();
+	}
+
+	/**
+	 * All {@code @ReadLock} and {@code @WriteLock} methods of a lock have to agree on whether and how many times it is striped.
+	 * Since javac removes the annotations of already handled methods, this relies on the first handled method of a lock seeing
+	 * all the others, which is enough to detect every disagreement.
+	 */
+	private boolean hasConsistentStripes(final String lockName, final String annotationTypeName) {
+		for (METHOD_TYPE candidate : type.methods()) {
+			final String candidateStripedBy;
+			final int candidateStripes;
+			if (candidate.getAnnotation(ReadLock.class) != null) {
+				final ReadLock readLock = candidate.getAnnotationValue(ReadLock.class).getInstance();
+				if (!lockName.equals(trim(readLock.value()))) continue;
+				candidateStripedBy = trim(readLock.stripedBy());
+				candidateStripes = readLock.stripes();
+			} else if (candidate.getAnnotation(WriteLock.class) != null) {
+				final WriteLock writeLock = candidate.getAnnotationValue(WriteLock.class).getInstance();
+				if (!lockName.equals(trim(writeLock.value()))) continue;
+				candidateStripedBy = trim(writeLock.stripedBy());
+				candidateStripes = writeLock.stripes();
+			} else {
+				continue;
+			}
+			if (candidateStripedBy.isEmpty() == isStriped()) {
+				diagnosticsReceiver.addError(String.format("@%s '%s' has to be either striped in all methods or in none of them.", annotationTypeName, lockName));
+				return false;
+			}
+			if (isStriped() && (candidateStripes != stripes)) {
+				diagnosticsReceiver.addError(String.format("@%s '%s' is striped %d times here, but %d times in method '%s'.", annotationTypeName, lockName, stripes, candidateStripes,
+						candidate.name()));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private IField<?, ?, ?, ?> fieldOf(final String fieldName) {
+		for (IField<?, ?, ?, ?> field : type.fields()) {
+			if (fieldName.equals(field.name())) return field;
+		}
+		return null;
+	}
+
+	private boolean isStripedByArgument() {
+		for (Argument argument : method.arguments()) {
+			if (stripedBy.equals(argument.getName())) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * A lock is a {@link java.util.concurrent.locks.StampedLock StampedLock} only if it was declared as such. It is never
+	 * inferred from an optimistic {@code @ReadLock}, since that would silently make all other methods on the lock
+	 * non-reentrant.
+	 */
+	private boolean isStampedLock(final String lockName) {
+		final IField<?, ?, ?, ?> field = fieldOf(lockName);
+		return (field != null) && field.isOfType("StampedLock");
+	}
+
+	/**
+	 * The statistics are shared by all instances, that way they are looked up once per class and aggregate all uses of the lock.
+	 */
+	private boolean tryToAddMetricsField(final String lockName, final String annotationTypeName) {
+		if (!metrics) return true;
+		if (type.isInner()) {
+			diagnosticsReceiver.addError(String.format("@%s 'metrics' requires a static field and is therefore not supported in inner classes.", annotationTypeName));
+			return false;
+		}
+		final String metricsFieldName = metricsFieldName(lockName);
+		if (!type.hasField(metricsFieldName)) {
+			type.editor().injectField(FieldDecl(Type(LOCK_METRICS_STATS), metricsFieldName).makePrivate().makeStatic().makeFinal() //
+					.withInitialization(Call(Name(LockMetrics.class), "of").withArgument(String(type.qualifiedName() + "." + lockName))));
+		}
+		return true;
+	}
+
 	private boolean tryToAddConditionField(final ConditionData condition, final String lockName, final String annotationTypeName) {
 		if (condition == null) {
 			return true;
@@ -193,27 +565,80 @@ public final class ConditionAndLockHandler<TYPE_TYPE extends IType<METHOD_TYPE,
 
 	public static class AwaitData extends ConditionData {
 		protected final String conditionMethod;
+		protected final boolean interruptible;
 
 		public AwaitData(final String condition, final String conditionMethod, final Position pos) {
+			this(condition, conditionMethod, pos, false);
+		}
+
+		public AwaitData(final String condition, final String conditionMethod, final Position pos, final boolean interruptible) {
 			super(condition, pos);
 			this.conditionMethod = conditionMethod;
+			this.interruptible = interruptible;
 		}
 
 		@Override
 		public Statement<?> toStatement() {
-			return Try(Block().withStatement(While(Call(This(), conditionMethod)).Do(Call(Field(condition), "await")))) //
+			final While awaitLoop = While(Call(This(), conditionMethod)).Do(Call(Field(condition), "await"));
+			if (interruptible) return awaitLoop;
+			return Try(Block().withStatement(awaitLoop)) //
 					.Catch(Arg(Type(InterruptedException.class), "e"), Block().withStatement(Throw(New(Type(RuntimeException.class)).withArgument(Name("e")))));
 		}
+
+		public List<Statement<?>> toStatements(final TimeoutData timeout, final Block onTimeout) {
+			final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+			statements.add(LocalDecl(Type("long"), "$nanos").withInitialization(Call(timeout.unitExpression(), "toNanos").withArgument(Number(timeout.timeout))));
+			statements.add(While(Call(This(), conditionMethod)).Do(Block() //
+					.withStatement(If(Binary(Name("$nanos"), "<=", Number(0L))).Then(onTimeout)) //
+					.withStatement(Assign(Name("$nanos"), Call(Field(condition), "awaitNanos").withArgument(Name("$nanos"))))));
+			if (interruptible) return statements;
+			final List<Statement<?>> wrapped = new ArrayList<Statement<?>>();
+			wrapped.add(Try(Block().withStatements(statements)) //
+					.Catch(Arg(Type(InterruptedException.class), "e"), Block() //
+							.withStatement(Call(Call(Name(Thread.class), "currentThread"), "interrupt")) //
+							.withStatement(Throw(New(Type(RuntimeException.class)).withArgument(Name("e"))))));
+			return wrapped;
+		}
 	}
 
 	public static class SignalData extends ConditionData {
+		protected final boolean all;
+		protected final boolean ifWaiters;
+
 		public SignalData(final String condition, final Position pos) {
+			this(condition, pos, false, false);
+		}
+
+		public SignalData(final String condition, final Position pos, final boolean all, final boolean ifWaiters) {
 			super(condition, pos);
+			this.all = all;
+			this.ifWaiters = ifWaiters;
 		}
 
 		@Override
 		public Statement<?> toStatement() {
-			return Call(Field(condition), "signal");
+			return Call(Field(condition), all ? "signalAll" : "signal");
+		}
+
+		/**
+		 * {@code ReentrantLock.hasWaiters(Condition)} requires the lock to be a
+		 * {@link java.util.concurrent.locks.ReentrantLock ReentrantLock}, which is what gets injected by default.
+		 */
+		public Statement<?> toStatement(final String lockName) {
+			if (!ifWaiters) return toStatement();
+			return If(Call(Cast(Type(ReentrantLock.class), Field(lockName)), "hasWaiters").withArgument(Field(condition))).Then(Block().withStatement(toStatement()));
+		}
+	}
+
+	@RequiredArgsConstructor
+	public static class TimeoutData {
+		protected final long timeout;
+		protected final TimeUnit unit;
+		protected final String exception;
+		protected final String fallbackMethod;
+
+		protected Expression<?> unitExpression() {
+			return Field(Name(TimeUnit.class), unit.name());
 		}
 	}
 
@@ -46,42 +46,83 @@ public class DoPrivilegedHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>> {
 			return;
 		}
 
-		method.editor().forceQualifiedThis();
+		final List<Statement<?>> validateStatements = validation.validateParameterOf(method);
+		final Map<String, String> sanitizedNames = new HashMap<String, String>();
+		final List<Statement<?>> sanitizeStatements = sanitizer.sanitizeParameterOf(method, sanitizedNames);
+		final List<String> argumentNames = injectPrivilegedMethod(sanitizedNames);
 
 		final TypeRef innerReturnType = method.boxedReturns();
-		if (method.returns("void")) {
-			method.editor().replaceReturns(Return(Null()).posHint(method.get()));
-			method.editor().replaceBody(Block().posHint(method.get()) //
-					.withStatements(validation.validateParameterOf(method)) //
-					.withStatements(sanitizer.sanitizeParameterOf(method)) //
-					.withStatement(Try(Block() //
-							.withStatement(Call(Name(AccessController.class), "doPrivileged").withArgument( //
-									New(Type(PrivilegedExceptionAction.class).withTypeArgument(innerReturnType)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
-											.withMethod(MethodDecl(innerReturnType, "run").makePublic().withThrownExceptions(method.thrownExceptions()) //
-													.withStatements(method.statements()) //
-													.withStatement(Return(Null()))))))) //
-							.Catch(Arg(Type(PrivilegedActionException.class), "$ex"), Block() //
-									.withStatement(LocalDecl(Type(Throwable.class), "$cause").makeFinal().withInitialization(Call(Name("$ex"), "getCause"))) //
-									.withStatements(rethrowStatements(method)) //
-									.withStatement(Throw(New(Type(RuntimeException.class)).withArgument(Name("$cause")))))));
+		final boolean returnsVoid = method.returns("void");
+		final MethodDecl runMethod = MethodDecl(innerReturnType, "run").makePublic().withThrownExceptions(method.thrownExceptions());
+		final Block directBlock = Block();
+		if (returnsVoid) {
+			runMethod.withStatement(privilegedCall(argumentNames)).withStatement(Return(Null()));
+			directBlock.withStatement(privilegedCall(argumentNames));
 		} else {
-			method.editor().replaceBody(Block().posHint(method.get()) //
-					.withStatements(validation.validateParameterOf(method)) //
-					.withStatements(sanitizer.sanitizeParameterOf(method)) //
-					.withStatement(Try(Block() //
-							.withStatement(Return(Call(Name(AccessController.class), "doPrivileged").withArgument( //
-									New(Type(PrivilegedExceptionAction.class).withTypeArgument(innerReturnType)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
-											.withMethod(MethodDecl(innerReturnType, "run").makePublic().withThrownExceptions(method.thrownExceptions()) //
-													.withStatements(method.statements()))))))) //
-							.Catch(Arg(Type(PrivilegedActionException.class), "$ex"), Block() //
-									.withStatement(LocalDecl(Type(Throwable.class), "$cause").makeFinal().withInitialization(Call(Name("$ex"), "getCause"))) //
-									.withStatements(rethrowStatements(method)) //
-									.withStatement(Throw(New(Type(RuntimeException.class)).withArgument(Name("$cause")))))));
+			runMethod.withStatement(Return(privilegedCall(argumentNames)));
+			directBlock.withStatement(Return(privilegedCall(argumentNames)));
+		}
+		final boolean hasCheckedExceptions = !method.thrownExceptions().isEmpty();
+		final Call doPrivileged = Call(Name(AccessController.class), "doPrivileged").withArgument( //
+				New(Type(hasCheckedExceptions ? PrivilegedExceptionAction.class : PrivilegedAction.class).withTypeArgument(innerReturnType)) //
+						.withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal().withMethod(runMethod)));
+		final Block privilegedBlock = Block();
+		if (returnsVoid) {
+			privilegedBlock.withStatement(doPrivileged);
+		} else {
+			privilegedBlock.withStatement(Return(doPrivileged));
+		}
+		final Block elseBlock;
+		if (hasCheckedExceptions) {
+			elseBlock = Block().withStatement(Try(privilegedBlock) //
+					.Catch(Arg(Type(PrivilegedActionException.class), "$ex"), Block() //
+							.withStatement(LocalDecl(Type(Throwable.class), "$cause").makeFinal().withInitialization(Call(Name("$ex"), "getCause"))) //
+							.withStatements(rethrowStatements(method)) //
+							.withStatement(Throw(New(Type(RuntimeException.class)).withArgument(Name("$cause"))))));
+		} else {
+			elseBlock = privilegedBlock;
 		}
 
+		method.editor().replaceBody(Block().posHint(method.get()) //
+				.withStatements(validateStatements) //
+				.withStatements(sanitizeStatements) //
+				.withStatement(If(Equal(Call(Name(System.class), "getSecurityManager"), Null())) //
+						.Then(directBlock) //
+						.Else(elseBlock)));
+
 		method.editor().rebuild();
 	}
 
+	/**
+	 * Moves the original method body into a private method, so it can run directly if there is no
+	 * {@code SecurityManager} to check against, and there is only one copy of it for both cases.
+	 */
+	private List<String> injectPrivilegedMethod(final Map<String, String> sanitizedNames) {
+		final List<String> argumentNames = new ArrayList<String>();
+		final MethodDecl privilegedMethod = MethodDecl(method.returns(), privilegedMethodName()).posHint(method.get()).makePrivate() //
+				.withTypeParameters(method.typeParameters()).withThrownExceptions(method.thrownExceptions());
+		for (Argument argument : method.arguments()) {
+			final String argumentName = sanitizedNames.get(argument.getName());
+			privilegedMethod.withArgument(Arg(argument.getType(), argumentName).makeFinal());
+			argumentNames.add(argumentName);
+		}
+		if (method.isStatic()) privilegedMethod.makeStatic();
+		method.surroundingType().editor().injectMethod(privilegedMethod.withStatements(method.statements()));
+		return argumentNames;
+	}
+
+	private Call privilegedCall(final List<String> argumentNames) {
+		final Call privilegedCall = Call(privilegedMethodName());
+		for (String argumentName : argumentNames) {
+			privilegedCall.withArgument(Name(argumentName));
+		}
+		return privilegedCall;
+	}
+
+	private String privilegedMethodName() {
+		return "$" + method.name();
+	}
+
 	private List<Statement<?>> rethrowStatements(final METHOD_TYPE method) {
 		final List<Statement<?>> rethrowStatements = new ArrayList<Statement<?>>();
 		for (lombok.ast.TypeRef thrownException : method.thrownExceptions()) {
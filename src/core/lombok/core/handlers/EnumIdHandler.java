@@ -32,7 +32,7 @@ import lombok.ast.*;
 import lombok.core.DiagnosticsReceiver;
 
 @RequiredArgsConstructor
-public class EnumIdHandler<TYPE_TYPE extends IType<?, ?, ?, ?, ?, ?>, FIELD_TYPE extends IField<?, ?, ?, ?>> {
+public abstract class EnumIdHandler<TYPE_TYPE extends IType<?, ?, ?, ?, ?, ?>, FIELD_TYPE extends IField<?, ?, ?, ?>> {
 	private final TYPE_TYPE type;
 	private final FIELD_TYPE field;
 	private final DiagnosticsReceiver diagnosticsReceiver;
@@ -44,17 +44,135 @@ public class EnumIdHandler<TYPE_TYPE extends IType<?, ?, ?, ?, ?, ?>, FIELD_TYPE
 		}
 
 		String filteredFieldName = field.filteredName();
-		String lookupFieldName = "$" + camelCaseToConstant(camelCase(filteredFieldName, "lookup"));
-		String foreachVarName = decapitalize(type.name());
+		String findByMethodName = camelCase("find", "by", filteredFieldName);
+		String defaultValueName = "fallback".equals(filteredFieldName) ? "$fallback" : "fallback";
 		String exceptionText = "Enumeration '" + type.name() + "' has no value for '" + filteredFieldName + " = %s'";
-		type.editor().injectField(FieldDecl(Type(Map.class).withTypeArgument(field.boxedType()).withTypeArgument(Type(type.name())), lookupFieldName).makePrivate().makeStatic().makeFinal() //
-				.withInitialization(New(Type(HashMap.class).withTypeArgument(field.boxedType()).withTypeArgument(Type(type.name())))));
 
-		type.editor().injectInitializer(Initializer().makeStatic().withStatement(Foreach(LocalDecl(Type(type.name()), foreachVarName)).In(Call(Name(type.name()), "values")).Do(Block() //
-				.withStatement(Call(Name(lookupFieldName), "put").withArgument(Field(Name(foreachVarName), field.name())).withArgument(Name(foreachVarName))))));
+		Map<String, String> constantNamesByStringId = field.isOfType("String") ? constantNamesByStringId() : null;
+		String lookupFieldName = null;
+		if ((constantNamesByStringId == null) || constantNamesByStringId.isEmpty()) {
+			lookupFieldName = "$" + camelCaseToConstant(camelCase(filteredFieldName, "lookup"));
+			String foreachVarName = decapitalize(type.name());
+			type.editor().injectField(FieldDecl(Type(Map.class).withTypeArgument(field.boxedType()).withTypeArgument(Type(type.name())), lookupFieldName).makePrivate().makeStatic().makeFinal() //
+					.withInitialization(New(Type(HashMap.class).withTypeArgument(field.boxedType()).withTypeArgument(Type(type.name())))));
 
-		type.editor().injectMethod(MethodDecl(Type(type.name()), camelCase("find", "by", filteredFieldName)).makePublic().makeStatic().withArgument(Arg(field.type(), filteredFieldName)) //
-				.withStatement(If(Call(Name(lookupFieldName), "containsKey").withArgument(Name(filteredFieldName))).Then(Block().withStatement(Return(Call(Name(lookupFieldName), "get").withArgument(Name(filteredFieldName)))))) //
-				.withStatement(Throw(New(Type(IllegalArgumentException.class)).withArgument(Call(Name(String.class), "format").withArgument(String(exceptionText)).withArgument(Name(filteredFieldName))))));
+			type.editor().injectInitializer(Initializer().makeStatic().withStatement(Foreach(LocalDecl(Type(type.name()), foreachVarName)).In(Call(Name(type.name()), "values")).Do(Block() //
+					.withStatement(Call(Name(lookupFieldName), "put").withArgument(Field(Name(foreachVarName), field.name())).withArgument(Name(foreachVarName))))));
+		}
+
+		String findByOrNullMethodName = findByMethodName + "OrNull";
+		type.editor().injectMethod(MethodDecl(Type(type.name()), findByMethodName).makePublic().makeStatic().withArgument(Arg(field.type(), filteredFieldName)) //
+				.withStatement(LocalDecl(Type(type.name()), "$result").makeFinal().withInitialization(Call(findByOrNullMethodName).withArgument(Name(filteredFieldName)))) //
+				.withStatement(If(Equal(Name("$result"), Null())).Then(Block() //
+						.withStatement(Throw(New(Type(IllegalArgumentException.class)).withArgument(Call(Name(String.class), "format").withArgument(String(exceptionText)).withArgument(Name(filteredFieldName))))))) //
+				.withStatement(Return(Name("$result"))));
+
+		type.editor().injectMethod(MethodDecl(Type(type.name()), findByOrNullMethodName).makePublic().makeStatic().withArgument(Arg(field.type(), filteredFieldName)) //
+				.withStatements(lookup(filteredFieldName, lookupFieldName, constantNamesByStringId)));
+
+		type.editor().injectMethod(MethodDecl(Type(type.name()), findByMethodName + "OrDefault").makePublic().makeStatic().withArgument(Arg(field.type(), filteredFieldName)) //
+				.withArgument(Arg(Type(type.name()), defaultValueName)) //
+				.withStatement(LocalDecl(Type(type.name()), "$result").makeFinal().withInitialization(Call(findByOrNullMethodName).withArgument(Name(filteredFieldName)))) //
+				.withStatement(If(Equal(Name("$result"), Null())).Then(Block().withStatement(Return(Name(defaultValueName))))) //
+				.withStatement(Return(Name("$result"))));
+	}
+
+	/**
+	 * Returns the matching enum constant or {@code null}. The lookup map never contains {@code null} values, so a single
+	 * {@code get()} is enough.
+	 */
+	private List<Statement<?>> lookup(final String idName, final String lookupFieldName, final Map<String, String> constantNamesByStringId) {
+		final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+		if (lookupFieldName == null) {
+			statements.add(If(NotEqual(Name(idName), Null())).Then(Block().withStatement(lengthSwitch(idName, constantNamesByStringId))));
+			statements.add(Return(Null()));
+		} else {
+			statements.add(Return(Call(Name(lookupFieldName), "get").withArgument(Name(idName))));
+		}
+		return statements;
+	}
+
+	/**
+	 * Returns the name of the enum constant for each {@code String} id, or {@code null} if the id of at least one enum constant
+	 * is not a compile-time constant. If two enum constants share an id, the latter one wins, just like it would with the lookup map.
+	 */
+	private Map<String, String> constantNamesByStringId() {
+		Map<String, String> stringIdsByConstantName = stringIdsByConstantName(type, field);
+		if (stringIdsByConstantName == null) return null;
+		Map<String, String> constantNamesByStringId = new LinkedHashMap<String, String>();
+		for (Map.Entry<String, String> entry : stringIdsByConstantName.entrySet()) {
+			constantNamesByStringId.put(entry.getValue(), entry.getKey());
+		}
+		return constantNamesByStringId;
 	}
+
+	/**
+	 * <pre>
+	 * switch (id.length()) {
+	 * case 3:
+	 *   // charSwitch for all ids of length 3
+	 *   break;
+	 * ...
+	 * }
+	 * </pre>
+	 */
+	private Statement<?> lengthSwitch(final String idName, final Map<String, String> constantNamesById) {
+		Map<Integer, Map<String, String>> constantNamesByIdByLength = new TreeMap<Integer, Map<String, String>>();
+		for (Map.Entry<String, String> entry : constantNamesById.entrySet()) {
+			Integer length = entry.getKey().length();
+			if (!constantNamesByIdByLength.containsKey(length)) constantNamesByIdByLength.put(length, new LinkedHashMap<String, String>());
+			constantNamesByIdByLength.get(length).put(entry.getKey(), entry.getValue());
+		}
+		Switch lengthSwitch = Switch(Call(Name(idName), "length"));
+		for (Map.Entry<Integer, Map<String, String>> entry : constantNamesByIdByLength.entrySet()) {
+			lengthSwitch.withCase(Case(Number(entry.getKey())).withStatement(charSwitch(idName, entry.getValue())).withStatement(Break()));
+		}
+		return lengthSwitch;
+	}
+
+	/**
+	 * Splits ids of equal length at the index where they differ the most, until only one id is left which gets compared via {@code equals}.
+	 * 
+	 * <pre>
+	 * switch (id.charAt(0)) {
+	 * case 'A':
+	 *   if ("ABC".equals(id)) {
+	 *     return Enum.CONSTANT;
+	 *   }
+	 *   break;
+	 * ...
+	 * }
+	 * </pre>
+	 */
+	private Statement<?> charSwitch(final String idName, final Map<String, String> constantNamesById) {
+		if (constantNamesById.size() == 1) {
+			Map.Entry<String, String> entry = constantNamesById.entrySet().iterator().next();
+			return If(Call(String(entry.getKey()), "equals").withArgument(Name(idName))).Then(Block().withStatement(Return(Field(Name(type.name()), entry.getValue()))));
+		}
+		int index = 0;
+		Map<Character, Map<String, String>> constantNamesByIdByChar = null;
+		for (int i = 0, iend = constantNamesById.keySet().iterator().next().length(); i < iend; i++) {
+			Map<Character, Map<String, String>> candidate = new TreeMap<Character, Map<String, String>>();
+			for (Map.Entry<String, String> entry : constantNamesById.entrySet()) {
+				Character c = entry.getKey().charAt(i);
+				if (!candidate.containsKey(c)) candidate.put(c, new LinkedHashMap<String, String>());
+				candidate.get(c).put(entry.getKey(), entry.getValue());
+			}
+			if ((constantNamesByIdByChar == null) || (candidate.size() > constantNamesByIdByChar.size())) {
+				index = i;
+				constantNamesByIdByChar = candidate;
+			}
+		}
+		Switch charSwitch = Switch(Call(Name(idName), "charAt").withArgument(Number(index)));
+		for (Map.Entry<Character, Map<String, String>> entry : constantNamesByIdByChar.entrySet()) {
+			charSwitch.withCase(Case(Char(entry.getKey().toString())).withStatement(charSwitch(idName, entry.getValue())).withStatement(Break()));
+		}
+		return charSwitch;
+	}
+
+	/**
+	 * Returns the {@code String} id of each enum constant keyed by the name of the enum constant in declaration order, or {@code null}
+	 * if the id of at least one enum constant can't be determined at compile-time.
+	 */
+	protected abstract Map<String, String> stringIdsByConstantName(TYPE_TYPE type, FIELD_TYPE field);
 }
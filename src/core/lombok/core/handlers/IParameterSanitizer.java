@@ -21,10 +21,11 @@
  */
 package lombok.core.handlers;
 
+import static java.util.Collections.singletonList;
 import static lombok.ast.AST.*;
 
 import java.text.Normalizer;
-import java.util.List;
+import java.util.*;
 
 import lombok.*;
 import lombok.ast.*;
@@ -33,21 +34,32 @@ import lombok.core.util.As;
 public interface IParameterSanitizer<METHOD_TYPE extends IMethod<?, ?, ?, ?>> {
 	public List<Statement<?>> sanitizeParameterOf(METHOD_TYPE method);
 
+	/**
+	 * Like {@link #sanitizeParameterOf(IMethod)}, but also puts the name every argument has in the method body into
+	 * {@code argumentNames}, which is the sanitized name for sanitized arguments and the argument name otherwise.
+	 */
+	public List<Statement<?>> sanitizeParameterOf(METHOD_TYPE method, Map<String, String> argumentNames);
+
 	@RequiredArgsConstructor
 	@Getter
 	public enum SanitizerStrategy {
 		WITH(Sanitize.With.class) {
 			@Override
-			public Statement<?> getStatementFor(final Object argumentType, final String argumentName, final String newArgumentName, final java.lang.annotation.Annotation annotation) {
-				return LocalDecl(Type(argumentType), newArgumentName).makeFinal().withInitialization(Call(((Sanitize.With) annotation).value()).withArgument(Name(argumentName)));
+			public List<? extends Statement<?>> getStatementsFor(final Object argumentType, final String argumentName, final String newArgumentName, final java.lang.annotation.Annotation annotation) {
+				return singletonList(LocalDecl(Type(argumentType), newArgumentName).makeFinal().withInitialization(Call(((Sanitize.With) annotation).value()).withArgument(Name(argumentName))));
 			}
 		},
 		NORMALIZE(Sanitize.Normalize.class) {
 			@Override
-			public Statement<?> getStatementFor(final Object argumentType, final String argumentName, final String newArgumentName, final java.lang.annotation.Annotation annotation) {
+			public List<? extends Statement<?>> getStatementsFor(final Object argumentType, final String argumentName, final String newArgumentName, final java.lang.annotation.Annotation annotation) {
 				final Normalizer.Form normalizerForm = ((Sanitize.Normalize) annotation).value();
-				return LocalDecl(Type(argumentType), newArgumentName).makeFinal().withInitialization(Call(Name("java.text.Normalizer"), "normalize") //
-						.withArgument(Name(argumentName)).withArgument(Name(String.format("java.text.Normalizer.Form.%s", normalizerForm.name()))));
+				final String form = String.format("java.text.Normalizer.Form.%s", normalizerForm.name());
+				final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+				statements.add(LocalDecl(Type(argumentType), newArgumentName).makeFinal());
+				statements.add(If(Call(Name("java.text.Normalizer"), "isNormalized").withArgument(Name(argumentName)).withArgument(Name(form))).Then(Block() //
+						.withStatement(Assign(Name(newArgumentName), Name(argumentName)))).Else(Block() //
+						.withStatement(Assign(Name(newArgumentName), Call(Name("java.text.Normalizer"), "normalize").withArgument(Name(argumentName)).withArgument(Name(form))))));
+				return statements;
 			}
 		};
 
@@ -55,7 +67,7 @@ public interface IParameterSanitizer<METHOD_TYPE extends IMethod<?, ?, ?, ?>> {
 
 		private final Class<? extends java.lang.annotation.Annotation> type;
 
-		public abstract Statement<?> getStatementFor(final Object argumentType, final String argumentName, final String newArgumentName,
+		public abstract List<? extends Statement<?>> getStatementsFor(final Object argumentType, final String argumentName, final String newArgumentName,
 				final java.lang.annotation.Annotation annotation);
 	}
 }
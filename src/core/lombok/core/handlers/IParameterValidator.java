@@ -74,4 +74,48 @@ public interface IParameterValidator<METHOD_TYPE extends IMethod<?, ?, ?, ?>> {
 			return Call(Name(String.class), "format").withArgument(String(message)).withArgument(String(argumentName)).withArgument(Number(argumentIndex));
 		}
 	}
+
+	public static final class Elision {
+		public static final String FLAG = "$elideValidation";
+
+		private Elision() {
+		}
+
+		/**
+		 * Wraps the validation statements in {@code if (!$elideValidation) ...} if the type is annotated with
+		 * {@link Validate.Elidable @Validate.Elidable}. The flag is a {@code static final} field read from a system
+		 * property once, so the JIT drops the whole block if the property is set.
+		 * <p>
+		 * Inner classes can't declare such a field and enum constructors can't read it, in both cases an error is
+		 * reported and the validation is kept as is.
+		 */
+		public static List<Statement<?>> guard(final IMethod<?, ?, ?, ?> method, final List<Statement<?>> validateStatements) {
+			final IType<?, ?, ?, ?, ?, ?> type = method.surroundingType();
+			if (validateStatements.isEmpty() || !isElidable(type)) return validateStatements;
+			if (type.isInner()) {
+				method.node().addError("@Validate.Elidable is not supported on inner classes, make the class static.");
+				return validateStatements;
+			}
+			if (type.isEnum() && method.isConstructor()) {
+				method.node().addError("@Validate.Elidable is not supported on enum constructors, their validation can't be elided.");
+				return validateStatements;
+			}
+			if (!type.hasField(FLAG)) {
+				final String property = type.getAnnotationValue(Validate.Elidable.class).getInstance().value();
+				type.editor().injectField(FieldDecl(Type("boolean"), FLAG).makePrivate().makeStatic().makeFinal() //
+						.withInitialization(Call(Name(Boolean.class), "getBoolean").withArgument(String(property))));
+			}
+			final List<Statement<?>> statements = new ArrayList<Statement<?>>();
+			statements.add(If(Not(Name(FLAG))).Then(Block().withStatements(validateStatements)));
+			return statements;
+		}
+
+		/**
+		 * The annotation might already be gone if an earlier method of the same type removed it, the injected flag
+		 * remains as a marker.
+		 */
+		public static boolean isElidable(final IType<?, ?, ?, ?, ?, ?> type) {
+			return (type != null) && ((type.getAnnotation(Validate.Elidable.class) != null) || type.hasField(FLAG));
+		}
+	}
 }
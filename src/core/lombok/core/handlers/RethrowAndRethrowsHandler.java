@@ -70,17 +70,14 @@ public final class RethrowAndRethrowsHandler<METHOD_TYPE extends IMethod<?, ?, ?
 		for (RethrowData rethrow : rethrows) {
 			for (Class<?> thrown : rethrow.thrown) {
 				final String varname = "$e" + counter++;
-				String message = rethrow.message;
 				if (RethrowData.class == thrown) {
 					tryBuilder.Catch(Arg(Type(RuntimeException.class), varname), Block().withStatement(Throw(Name(varname))));
-				} else if (message.isEmpty()) {
-					tryBuilder.Catch(Arg(Type(thrown.getName()), varname), Block().withStatement(Throw(New(Type(rethrow.as.getName())) //
-							.withArgument(Name(varname)))));
+				} else if (rethrow.message.isEmpty()) {
+					tryBuilder.Catch(Arg(Type(thrown.getName()), varname), Block().withStatement(Throw(wrapperOf(rethrow, varname, null, null))));
 				} else {
 					final List<Expression<?>> arguments = new ArrayList<Expression<?>>();
-					message = manipulateMessage(message, arguments);
-					tryBuilder.Catch(Arg(Type(thrown.getName()), varname), Block().withStatement(Throw(New(Type(rethrow.as.getName())) //
-							.withArgument(Call(Name(String.class), "format").withArgument(String(message)).withArguments(arguments)).withArgument(Name(varname)))));
+					final String message = manipulateMessage(rethrow.message, arguments);
+					tryBuilder.Catch(Arg(Type(thrown.getName()), varname), Block().withStatement(Throw(wrapperOf(rethrow, varname, message, arguments))));
 				}
 			}
 		}
@@ -89,6 +86,69 @@ public final class RethrowAndRethrowsHandler<METHOD_TYPE extends IMethod<?, ?, ?
 		method.editor().rebuild();
 	}
 
+	/**
+	 * Stackless and lazy wrappers are instances of a {@code private static final} nested subclass of the {@code as} type,
+	 * which is injected once per surrounding type and flavor, e.g. {@code $StacklessIllegalStateException}. Only types of
+	 * {@code java.lang} are named by their simple name, all others by their qualified name, e.g.
+	 * {@code $Lazycom$example$ValidationException}, so two types of the same simple name never share a wrapper. Inner
+	 * classes cannot declare static members, so there the nested class is not static. Stackless wrappers override
+	 * {@code fillInStackTrace()}, so the (usually deep) stack is not walked on every rethrow, the cause still carries the
+	 * original stack trace. Lazy wrappers keep the format string and its arguments and only format the message in
+	 * {@code getMessage()}.
+	 */
+	private New wrapperOf(final RethrowData rethrow, final String cause, final String message, final List<Expression<?>> arguments) {
+		final boolean lazyMessage = (message != null) && rethrow.lazyMessage;
+		if (!rethrow.stackless && !lazyMessage) {
+			final New wrapper = New(Type(rethrow.as.getName()));
+			if (message != null) {
+				wrapper.withArgument(Call(Name(String.class), "format").withArgument(String(message)).withArguments(arguments));
+			}
+			return wrapper.withArgument(Name(cause));
+		}
+		final String wrapperName = "$" + (rethrow.stackless ? "Stackless" : "") + (lazyMessage ? "Lazy" : "") + wrappedTypeNameOf(rethrow.as);
+		injectWrapperType(wrapperName, rethrow.as, rethrow.stackless, lazyMessage);
+		final New wrapper = New(Type(wrapperName));
+		if (message == null) {
+			wrapper.withArgument(Call(Name(cause), "toString"));
+		} else if (lazyMessage) {
+			wrapper.withArgument(String(message)).withArgument(NewArray(Type(Object.class)).withInitializerExpressions(arguments));
+		} else {
+			wrapper.withArgument(Call(Name(String.class), "format").withArgument(String(message)).withArguments(arguments));
+		}
+		return wrapper.withArgument(Name(cause));
+	}
+
+	private static String wrappedTypeNameOf(final Class<?> as) {
+		if (as.getName().equals("java.lang." + as.getSimpleName())) return as.getSimpleName();
+		return as.getName().replace('.', '$');
+	}
+
+	private void injectWrapperType(final String wrapperName, final Class<?> as, final boolean stackless, final boolean lazyMessage) {
+		final IType<?, ?, ?, ?, ?, ?> type = method.surroundingType();
+		if (type.hasType(wrapperName)) return;
+		final ClassDecl wrapperType = ClassDecl(wrapperName).makePrivate().makeFinal().extending(Type(as.getName()));
+		if (!type.isInner()) {
+			wrapperType.makeStatic();
+		}
+		if (lazyMessage) {
+			wrapperType.withField(FieldDecl(Type(String.class), "format").makePrivate().makeFinal()) //
+					.withField(FieldDecl(Type(Object.class).withDimensions(1), "arguments").makePrivate().makeFinal()) //
+					.withMethod(ConstructorDecl(wrapperName).withArgument(Arg(Type(String.class), "format")) //
+							.withArgument(Arg(Type(Object.class).withDimensions(1), "arguments")).withArgument(Arg(Type(Throwable.class), "cause")) //
+							.withSuperArgument(Name("format")).withSuperArgument(Name("cause")) //
+							.withStatement(Assign(Field("format"), Name("format"))).withStatement(Assign(Field("arguments"), Name("arguments")))) //
+					.withMethod(MethodDecl(Type(String.class), "getMessage").makePublic() //
+							.withStatement(Return(Call(Name(String.class), "format").withArgument(Field("format")).withArgument(Field("arguments")))));
+		} else {
+			wrapperType.withMethod(ConstructorDecl(wrapperName).withArgument(Arg(Type(String.class), "message")).withArgument(Arg(Type(Throwable.class), "cause")) //
+					.withSuperArgument(Name("message")).withSuperArgument(Name("cause")));
+		}
+		if (stackless) {
+			wrapperType.withMethod(MethodDecl(Type(Throwable.class), "fillInStackTrace").makePublic().withStatement(Return(This())));
+		}
+		type.editor().injectType(wrapperType);
+	}
+
 	private String manipulateMessage(final String message, final List<Expression<?>> arguments) {
 		final Matcher matcher = Pattern.compile("\\$([a-zA-Z0-9_]+)").matcher(message);
 		final StringBuilder manipulatedMessage = new StringBuilder();
@@ -113,5 +173,7 @@ public final class RethrowAndRethrowsHandler<METHOD_TYPE extends IMethod<?, ?, ?
 		public final List<Class<?>> thrown;
 		public final Class<?> as;
 		public final String message;
+		public final boolean stackless;
+		public final boolean lazyMessage;
 	}
 }
@@ -22,12 +22,14 @@
 package lombok.core.handlers;
 
 import static lombok.ast.AST.*;
+import static lombok.ast.IMethod.ArgumentStyle.BOXED_TYPES;
 import static lombok.core.util.ErrorMessages.*;
 import static lombok.core.util.Names.*;
 
 import java.awt.EventQueue;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 import lombok.*;
 import lombok.ast.*;
@@ -77,6 +79,83 @@ public final class SwingInvokeHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>> {
 		method.editor().rebuild();
 	}
 
+	/**
+	 * Coalescing {@code invokeLater}: The latest arguments are kept in an {@code AtomicReference}, only the call that
+	 * finds it empty queues the runnable, which then runs the original body (moved to a private method) once with
+	 * whatever arguments are the latest at that time.
+	 */
+	public void handleCoalesced(final IParameterValidator<METHOD_TYPE> validation, final IParameterSanitizer<METHOD_TYPE> sanitizer) {
+		if (method == null) {
+			diagnosticsReceiver.addError(canBeUsedOnMethodOnly(SwingInvokeLater.class));
+			return;
+		}
+
+		if (method.isAbstract() || method.isEmpty()) {
+			diagnosticsReceiver.addError(canBeUsedOnConcreteMethodOnly(SwingInvokeLater.class));
+			return;
+		}
+
+		if (!method.typeParameters().isEmpty()) {
+			diagnosticsReceiver.addError("@SwingInvokeLater(coalesce=true) is not supported on generic methods.");
+			return;
+		}
+
+		final String pendingField = "$" + camelCase(method.name(), "pending");
+		final String runnableField = "$" + camelCase(method.name(), "runnable");
+		final String bodyMethodName = "$" + method.name();
+		if (method.surroundingType().hasField(pendingField)) {
+			diagnosticsReceiver.addError("@SwingInvokeLater(coalesce=true) is not supported on overloaded methods.");
+			return;
+		}
+
+		final List<Statement<?>> validateStatements = validation.validateParameterOf(method);
+		final Map<String, String> sanitizedNames = new HashMap<String, String>();
+		final List<Statement<?>> sanitizeStatements = sanitizer.sanitizeParameterOf(method, sanitizedNames);
+
+		final MethodDecl bodyMethod = MethodDecl(Type("void"), bodyMethodName).posHint(method.get()).makePrivate();
+		final Call directCall = Call(bodyMethodName);
+		final Call queuedCall = Call(bodyMethodName);
+		final NewArray arguments = NewArray(Type(Object.class));
+		final List<Argument> boxedArguments = method.arguments(BOXED_TYPES);
+		int argumentIndex = 0;
+		for (Argument argument : method.arguments()) {
+			final String argumentName = sanitizedNames.get(argument.getName());
+			bodyMethod.withArgument(Arg(argument.getType(), argumentName).makeFinal());
+			directCall.withArgument(Name(argumentName));
+			arguments.withInitializerExpression(Name(argumentName));
+			queuedCall.withArgument(Cast(boxedArguments.get(argumentIndex).getType(), ArrayRef(Name("$args"), Number(argumentIndex))));
+			argumentIndex++;
+		}
+		if (argumentIndex == 0) arguments.withDimensionExpression(Number(0));
+
+		final TypeRef pendingType = Type(AtomicReference.class).withTypeArgument(Type(Object.class).withDimensions(1));
+		final FieldDecl pending = FieldDecl(pendingType, pendingField).makePrivate().makeFinal().withAnnotation(Annotation(Type(SuppressWarnings.class)).withValue(String("all"))) //
+				.withInitialization(New(Type(AtomicReference.class).withTypeArgument(Type(Object.class).withDimensions(1))));
+		final FieldDecl runnable = FieldDecl(Type(Runnable.class), runnableField).makePrivate().makeFinal().withAnnotation(Annotation(Type(SuppressWarnings.class)).withValue(String("all"))) //
+				.withInitialization(New(Type(Runnable.class)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+						.withMethod(MethodDecl(Type("void"), "run").makePublic().withAnnotation(Annotation(Type(Override.class))).withAnnotation(Annotation(Type(SuppressWarnings.class)).withValue(String("all"))) //
+								.withStatement(LocalDecl(Type(Object.class).withDimensions(1), "$args").makeFinal().withInitialization(Call(Name(pendingField), "getAndSet").withArgument(Null()))) //
+								.withStatement(If(NotEqual(Name("$args"), Null())).Then(Block().withStatement(queuedCall))))));
+		if (method.isStatic()) {
+			pending.makeStatic();
+			runnable.makeStatic();
+			bodyMethod.makeStatic();
+		}
+		method.surroundingType().editor().injectField(pending);
+		method.surroundingType().editor().injectField(runnable);
+		method.surroundingType().editor().injectMethod(bodyMethod.withStatements(method.statements()));
+
+		method.editor().replaceBody(Block().posHint(method.get()) //
+				.withStatements(validateStatements) //
+				.withStatements(sanitizeStatements) //
+				.withStatement(If(Call(Name(EventQueue.class), "isDispatchThread")) //
+						.Then(Block().withStatement(Call(Name(pendingField), "set").withArgument(Null())).withStatement(directCall)) //
+						.Else(Block().withStatement(If(Equal(Call(Name(pendingField), "getAndSet").withArgument(arguments), Null())) //
+								.Then(Block().withStatement(Call(Name(EventQueue.class), "invokeLater").withArgument(Name(runnableField))))))));
+
+		method.editor().rebuild();
+	}
+
 	private Try generateTryCatchBlock(final Call elseStatementRun, final METHOD_TYPE method) {
 		return Try(Block() //
 				.withStatement(elseStatementRun)) //
@@ -29,6 +29,7 @@
 package lombok.core.handlers;
 
 import static lombok.ast.AST.*;
+import static lombok.ast.Wildcard.Bound.SUPER;
 import static lombok.core.util.Names.*;
 
 import java.io.Closeable;
@@ -39,36 +40,87 @@ import lombok.ast.*;
 import lombok.core.util.Is;
 
 public class YieldHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE> {
+	private static final String PRIMITIVE_ITERATOR = "java.util.PrimitiveIterator";
+	private static final String SPLITERATOR = "java.util.Spliterator";
+	private static final String CONSUMER = "java.util.function.Consumer";
+	private static final String STREAM_SUPPORT = "java.util.stream.StreamSupport";
 
 	public boolean handle(final METHOD_TYPE method, final AbstractYieldDataCollector<METHOD_TYPE, AST_BASE_TYPE> collector) {
+		final Class<?> primitiveType = primitiveElementType(method);
 		final boolean returnsIterable = method.returns(Iterable.class);
-		final boolean returnsIterator = method.returns(Iterator.class);
-		if (!(returnsIterable || returnsIterator)) {
-			method.node().addError("Method that contain yield() can only return java.util.Iterator or java.lang.Iterable.");
+		final boolean returnsStream = method.returns("Stream");
+		final boolean returnsSpliterator = method.returns("Spliterator") || returnsStream;
+		final boolean returnsIterator = method.returns(Iterator.class) || (primitiveType != null);
+		if (returnsPrimitiveSpliterator(method)) {
+			method.node().addError("Method that contain yield() can not return a primitive java.util.Spliterator, use java.util.PrimitiveIterator instead.");
+			return true;
+		}
+		if (!(returnsIterable || returnsIterator || returnsSpliterator)) {
+			method.node().addError("Method that contain yield() can only return java.util.Iterator, java.lang.Iterable, java.util.PrimitiveIterator, "
+					+ "java.util.Spliterator or java.util.stream.Stream.");
 			return true;
 		}
 		if (method.hasNonFinalArgument()) {
 			method.node().addError("Parameters should be final.");
 			return true;
 		}
+		final boolean async = method.getAnnotation(AsyncYield.class) != null;
+		if (async && !(method.returns(Iterable.class) || method.returns(Iterator.class))) {
+			method.node().addError("@AsyncYield can only be used on methods that return java.util.Iterator or java.lang.Iterable.");
+			return true;
+		}
 
 		final String stateName = "$state";
 		final String nextName = "$next";
 		final String errorName = "$yieldException";
-		collector.collect(method, stateName, nextName, errorName, returnsIterable);
+		collector.collect(method, stateName, nextName, errorName, returnsIterable, returnsSpliterator, primitiveType);
 
 		if (!collector.hasYields()) {
 			return true;
 		}
+		if (collector.delegating && ((primitiveType != null) || returnsSpliterator)) {
+			method.node().addError("yieldAll() can only be used in methods that return java.util.Iterator or java.lang.Iterable.");
+			return true;
+		}
 
 		final String yielderName = collector.yielderName(method);
 		ClassDecl yielder = collector.getYielder();
-		method.editor().replaceBody(yielder, Return(New(Type(yielderName))));
+		if (async) {
+			final AsyncYield asyncYield = method.getAnnotationValue(AsyncYield.class).getInstance();
+			if ((asyncYield.capacity() < 1) || (asyncYield.batch() < 1)) {
+				method.node().addError("@AsyncYield requires a capacity and batch of at least 1.");
+				return true;
+			}
+			method.editor().replaceBody(yielder, Return(Call(Name(Yield.class), returnsIterable ? "asyncIterable" : "asyncIterator") //
+					.withArgument(New(Type(yielderName))).withArgument(Number(asyncYield.capacity())).withArgument(Number(asyncYield.batch()))));
+		} else if (returnsStream) {
+			method.editor().replaceBody(yielder, LocalDecl(Type(yielderName), "$yielder").makeFinal().withInitialization(New(Type(yielderName))), //
+					Return(Call(Call(Name(STREAM_SUPPORT), "stream").withArgument(Name("$yielder")).withArgument(False()), "onClose") //
+							.withArgument(New(Type(Runnable.class)).withTypeDeclaration(ClassDecl("").makeAnonymous().makeLocal() //
+									.withMethod(MethodDecl(Type("void"), "run").makePublic().withStatement(Call(Name("$yielder"), "close")))))));
+		} else {
+			method.editor().replaceBody(yielder, Return(New(Type(yielderName))));
+		}
 		method.editor().rebuild();
 
 		return true;
 	}
 
+	/**
+	 * The return type has to be qualified with {@code PrimitiveIterator}, since a bare {@code OfInt} might as well be a
+	 * {@code Spliterator.OfInt}.
+	 */
+	private Class<?> primitiveElementType(final METHOD_TYPE method) {
+		if (method.returns("PrimitiveIterator.OfInt")) return int.class;
+		if (method.returns("PrimitiveIterator.OfLong")) return long.class;
+		if (method.returns("PrimitiveIterator.OfDouble")) return double.class;
+		return null;
+	}
+
+	private boolean returnsPrimitiveSpliterator(final METHOD_TYPE method) {
+		return method.returns("Spliterator.OfInt") || method.returns("Spliterator.OfLong") || method.returns("Spliterator.OfDouble");
+	}
+
 	public static abstract class AbstractYieldDataCollector<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE> {
 		protected METHOD_TYPE method;
 		protected List<Scope<AST_BASE_TYPE>> yields = new ArrayList<Scope<AST_BASE_TYPE>>();
@@ -90,21 +142,34 @@ public class YieldHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE
 		protected String nextName;
 		protected String errorName;
 		protected boolean returnsIterable;
+		protected boolean returnsSpliterator;
+		protected Class<?> primitiveType;
+		protected boolean delegating;
 
 		public ClassDecl getYielder() {
+			if (delegating) {
+				return getDelegatingYielder();
+			}
 			final String yielderName = yielderName(method);
-			final String elementType = elementType(method);
+			final String elementType = primitiveType == null ? elementType(method) : boxedTypeOf(primitiveType);
+			final String nextType = primitiveType == null ? elementType : primitiveType.getName();
 			final List<FieldDecl> variables = getStateVariables();
 			final Switch stateSwitch = getStateSwitch();
 			final Switch errorHandlerSwitch = getErrorHandlerSwitch();
 			final Statement<?> closeStatement = getCloseStatement();
 
-			ClassDecl yielder = ClassDecl(yielderName).posHint(method.get()).makeLocal().implementing(Type(Iterator.class).withTypeArgument(Type(elementType))) //
+			final TypeRef iteratorType;
+			if (primitiveType == null) {
+				iteratorType = Type(Iterator.class).withTypeArgument(Type(elementType));
+			} else {
+				iteratorType = Type(PRIMITIVE_ITERATOR + ".Of" + capitalize(nextType));
+			}
+			ClassDecl yielder = ClassDecl(yielderName).posHint(method.get()).makeLocal().implementing(iteratorType) //
 					.withFields(variables) //
 					.withField(FieldDecl(Type("int"), stateName).makePrivate()) //
 					.withField(FieldDecl(Type("boolean"), "$hasNext").makePrivate()) //
 					.withField(FieldDecl(Type("boolean"), "$nextDefined").makePrivate()) //
-					.withField(FieldDecl(Type(elementType), nextName).makePrivate()) //
+					.withField(FieldDecl(Type(nextType), nextName).makePrivate()) //
 					.withMethod(ConstructorDecl(yielderName).withImplicitSuper().makePrivate()); //
 			if (returnsIterable) {
 				yielder.implementing(Type(Iterable.class).withTypeArgument(Type(elementType))) //
@@ -114,19 +179,44 @@ public class YieldHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE
 										.withStatement(Return(This()))) //
 										.Else(Return(New(Type(yielderName))))));
 			}
+			if (returnsSpliterator) {
+				yielder.implementing(Type(SPLITERATOR).withTypeArgument(Type(elementType)));
+			}
 			yielder.implementing(Type(Closeable.class)) //
 					.withMethod(MethodDecl(Type("boolean"), "hasNext").makePublic() //
 							.withStatement(If(Not(Name("$nextDefined"))).Then(Block() //
 									.withStatement(Assign(Name("$hasNext"), Call("getNext"))) //
 									.withStatement(Assign(Name("$nextDefined"), True())))) //
-							.withStatement(Return(Name("$hasNext")))) //
-					.withMethod(MethodDecl(Type(elementType), "next").makePublic() //
-							.withStatement(If(Not(Call("hasNext"))).Then(Block() //
-									.withStatement(Throw(New(Type(NoSuchElementException.class)))))) //
-							.withStatement(Assign(Name("$nextDefined"), False())) //
-							.withStatement(Return(Name(nextName)))) //
-					.withMethod(MethodDecl(Type("void"), "remove").makePublic() //
-							.withStatement(Throw(New(Type(UnsupportedOperationException.class))))) //
+							.withStatement(Return(Name("$hasNext"))));
+			final String nextMethodName = primitiveType == null ? "next" : "next" + capitalize(nextType);
+			yielder.withMethod(MethodDecl(Type(nextType), nextMethodName).makePublic() //
+					.withStatement(If(Not(Call("hasNext"))).Then(Block() //
+							.withStatement(Throw(New(Type(NoSuchElementException.class)))))) //
+					.withStatement(Assign(Name("$nextDefined"), False())) //
+					.withStatement(Return(Name(nextName))));
+			if (primitiveType != null) {
+				yielder.withMethod(MethodDecl(Type(elementType), "next").makePublic() //
+						.withStatement(Return(Call(nextMethodName))));
+				yielder.withMethod(forEachRemaining(Type("java.util.function." + capitalize(nextType) + "Consumer")));
+			}
+			if (returnsSpliterator) {
+				yielder.withMethod(MethodDecl(Type("boolean"), "tryAdvance").makePublic() //
+						.withArgument(Arg(consumerType(elementType), "$action")) //
+						.withStatement(If(Not(Call("hasNext"))).Then(Block() //
+								.withStatement(Return(False())))) //
+						.withStatement(Assign(Name("$nextDefined"), False())) //
+						.withStatement(Call(Name("$action"), "accept").withArgument(Name(nextName))) //
+						.withStatement(Return(True()))) //
+						.withMethod(forEachRemaining(consumerType(elementType))) //
+						.withMethod(MethodDecl(Type(SPLITERATOR).withTypeArgument(Type(elementType)), "trySplit").makePublic() //
+								.withStatement(Return(Null()))) //
+						.withMethod(MethodDecl(Type("long"), "estimateSize").makePublic() //
+								.withStatement(Return(Field(Name(Long.class), "MAX_VALUE")))) //
+						.withMethod(MethodDecl(Type("int"), "characteristics").makePublic() //
+								.withStatement(Return(Field(Name(SPLITERATOR), "ORDERED"))));
+			}
+			yielder.withMethod(MethodDecl(Type("void"), "remove").makePublic() //
+					.withStatement(Throw(New(Type(UnsupportedOperationException.class))))) //
 					.withMethod(MethodDecl(Type("void"), "close").makePublic() //
 							.withStatement(closeStatement));
 			if (errorHandlerSwitch != null) {
@@ -146,6 +236,54 @@ public class YieldHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE
 			return yielder;
 		}
 
+		public ClassDecl getDelegatingYielder() {
+			final String yielderName = yielderName(method);
+			final String elementType = elementType(method);
+			final List<FieldDecl> variables = getStateVariables();
+			final Switch stateSwitch = getStateSwitch();
+			final Switch errorHandlerSwitch = getErrorHandlerSwitch();
+			final Statement<?> closeStatement = getCloseStatement();
+
+			ClassDecl yielder = ClassDecl(yielderName).posHint(method.get()).makeLocal().extending(Type(Yield.class.getName() + ".Delegator").withTypeArgument(Type(elementType))) //
+					.withFields(variables) //
+					.withField(FieldDecl(Type("int"), stateName).makePrivate()) //
+					.withMethod(ConstructorDecl(yielderName).withImplicitSuper().makePrivate()); //
+			if (returnsIterable) {
+				yielder.implementing(Type(Iterable.class).withTypeArgument(Type(elementType))) //
+						.withMethod(MethodDecl(Type(Iterator.class).withTypeArgument(Type(elementType)), "iterator").makePublic() //
+								.withStatement(If(Equal(Name(stateName), Number(0))).Then(Block() //
+										.withStatement(Assign(Name(stateName), Number(1))) //
+										.withStatement(Return(This()))) //
+										.Else(Return(New(Type(yielderName))))));
+			}
+			yielder.withMethod(MethodDecl(Type("void"), "close").makePublic() //
+					.withStatement(Call("closeDelegates")) //
+					.withStatement(closeStatement));
+			if (errorHandlerSwitch != null) {
+				String caughtErrorName = errorName + "Caught";
+				yielder.withMethod(MethodDecl(Type("boolean"), "getNext").makeProtected() //
+						.withStatement(LocalDecl(Type(Throwable.class), errorName)) //
+						.withStatement(While(True()).Do(Block() //
+								.withStatement(Try(Block() //
+										.withStatement(stateSwitch)) //
+										.Catch(Arg(Type(Throwable.class), caughtErrorName), Block() //
+												.withStatement(Assign(Name(errorName), Name(caughtErrorName))))) //
+								.withStatement(errorHandlerSwitch))));
+			} else {
+				yielder.withMethod(MethodDecl(Type("boolean"), "getNext").makeProtected() //
+						.withStatement(While(True()).Do(stateSwitch)));
+			}
+			return yielder;
+		}
+
+		public Statement<?> yieldStatement(final Expression<?> expression, final boolean all) {
+			if (all) {
+				return Call("delegateTo").withArgument(expression);
+			} else {
+				return Assign(Name(nextName), expression);
+			}
+		}
+
 		public Switch getStateSwitch() {
 			final List<Case> switchCases = new ArrayList<Case>();
 			for (Case label : cases) if (label != null) switchCases.add(label);
@@ -207,12 +345,15 @@ public class YieldHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE
 			return !yields.isEmpty();
 		}
 
-		public void collect(final METHOD_TYPE method, final String state, final String next, final String errorName, final boolean returnsIterable) {
+		public void collect(final METHOD_TYPE method, final String state, final String next, final String errorName, final boolean returnsIterable,
+				final boolean returnsSpliterator, final Class<?> primitiveType) {
 			this.method = method;
 			this.stateName = state;
 			this.nextName = next;
 			this.errorName = errorName;
 			this.returnsIterable = returnsIterable;
+			this.returnsSpliterator = returnsSpliterator;
+			this.primitiveType = primitiveType;
 
 			if (scan()) {
 				prepareRefactor();
@@ -230,6 +371,30 @@ public class YieldHandler<METHOD_TYPE extends IMethod<?, ?, ?, ?>, AST_BASE_TYPE
 
 		public abstract String elementType(final METHOD_TYPE method);
 
+		/**
+		 * Hands out a pending element left over from an earlier {@code hasNext()} first, afterwards drives the state machine
+		 * directly without any {@code hasNext()} bookkeeping.
+		 */
+		private MethodDecl forEachRemaining(final TypeRef consumerType) {
+			return MethodDecl(Type("void"), "forEachRemaining").makePublic() //
+					.withArgument(Arg(consumerType, "$action")) //
+					.withStatement(If(Name("$nextDefined")).Then(Block() //
+							.withStatement(Assign(Name("$nextDefined"), False())) //
+							.withStatement(If(Name("$hasNext")).Then(Block() //
+									.withStatement(Call(Name("$action"), "accept").withArgument(Name(nextName))))))) //
+					.withStatement(While(Call("getNext")).Do(Call(Name("$action"), "accept").withArgument(Name(nextName))));
+		}
+
+		private static TypeRef consumerType(final String elementType) {
+			return Type(CONSUMER).withTypeArgument(Wildcard(SUPER, Type(elementType)));
+		}
+
+		private static String boxedTypeOf(final Class<?> primitiveType) {
+			if (primitiveType == int.class) return Integer.class.getName();
+			if (primitiveType == long.class) return Long.class.getName();
+			return Double.class.getName();
+		}
+
 		public abstract boolean scan();
 
 		public abstract void prepareRefactor();
@@ -43,7 +43,7 @@ public final class PatchYield {
 	}
 
 	public static boolean onAbstractMethodDeclaration_resolveStatements(final AbstractMethodDeclaration decl) {
-		if (decl.statements != null) {
+		if ((decl.statements != null) || (decl.annotations != null)) { // annotations for a misplaced @AsyncYield
 			final EclipseNode methodNode = Patches.getMethodNode(decl);
 			methodNode.traverse(new HandleYield());
 		}
@@ -28,7 +28,9 @@ import static lombok.eclipse.handlers.Eclipse.*;
 import static lombok.eclipse.handlers.EclipseHandlerUtil.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.internal.compiler.ast.Annotation;
 import org.eclipse.jdt.internal.compiler.ast.Argument;
@@ -41,17 +43,24 @@ import lombok.eclipse.handlers.ast.EclipseMethod;
 public class EclipseParameterSanitizer implements IParameterSanitizer<EclipseMethod> {
 	@Override
 	public List<lombok.ast.Statement<?>> sanitizeParameterOf(final EclipseMethod method) {
+		return sanitizeParameterOf(method, new HashMap<String, String>());
+	}
+
+	@Override
+	public List<lombok.ast.Statement<?>> sanitizeParameterOf(final EclipseMethod method, final Map<String, String> argumentNames) {
 		final List<lombok.ast.Statement<?>> sanitizeStatements = new ArrayList<lombok.ast.Statement<?>>();
 		for (Argument argument : Each.elementIn(method.get().arguments)) {
 			final String argumentName = new String(argument.name);
 			final String newArgumentName = camelCase("sanitized", argumentName);
+			argumentNames.put(argumentName, argumentName);
 			for (SanitizerStrategy sanitizerStrategy : SanitizerStrategy.IN_ORDER) {
 				final Annotation ann = getAnnotation(sanitizerStrategy.getType(), argument.annotations);
 				if ((ann == null) || isGenerated(ann)) continue;
 				final EclipseNode annotationNode = method.node().getNodeFor(ann);
 				final java.lang.annotation.Annotation annotation = createAnnotation(sanitizerStrategy.getType(), annotationNode).getInstance();
-				sanitizeStatements.add(sanitizerStrategy.getStatementFor(argument.type, argumentName, newArgumentName, annotation));
+				sanitizeStatements.addAll(sanitizerStrategy.getStatementsFor(argument.type, argumentName, newArgumentName, annotation));
 				method.editor().replaceVariableName(argumentName, newArgumentName);
+				argumentNames.put(argumentName, newArgumentName);
 				setGeneratedBy(ann, ann);
 				argument.modifiers |= AccFinal;
 				argument.bits |= ECLIPSE_DO_NOT_TOUCH_FLAG;
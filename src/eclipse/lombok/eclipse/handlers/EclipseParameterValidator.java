@@ -58,6 +58,12 @@ public class EclipseParameterValidator implements IParameterValidator<EclipseMet
 		for (lombok.ast.Statement<?> validateStatement : validateStatements) {
 			validateStatement.posHint(method.get());
 		}
-		return validateStatements;
+		final List<lombok.ast.Statement<?>> guardedStatements = Elision.guard(method, validateStatements);
+		if (guardedStatements != validateStatements) {
+			for (lombok.ast.Statement<?> guardedStatement : guardedStatements) {
+				guardedStatement.posHint(method.get());
+			}
+		}
+		return guardedStatements;
 	}
 }
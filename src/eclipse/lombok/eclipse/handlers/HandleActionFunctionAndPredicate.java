@@ -21,11 +21,15 @@
  */
 package lombok.eclipse.handlers;
 
+import static lombok.core.handlers.ActionFunctionAndPredicateHandler.javaUtilTemplatesFor;
+import static lombok.core.handlers.ActionFunctionAndPredicateHandler.mostSpecificTemplateOf;
 import static lombok.eclipse.Eclipse.fromQualifiedName;
 import static lombok.eclipse.Eclipse.poss;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import lombok.Action;
 import lombok.Function;
@@ -44,6 +48,7 @@ import lombok.eclipse.handlers.ast.EclipseType;
 import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.Annotation;
 import org.eclipse.jdt.internal.compiler.ast.Argument;
+import org.eclipse.jdt.internal.compiler.ast.MethodDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.QualifiedTypeReference;
 import org.eclipse.jdt.internal.compiler.ast.TypeReference;
 import org.eclipse.jdt.internal.compiler.lookup.BlockScope;
@@ -65,7 +70,8 @@ public class HandleActionFunctionAndPredicate {
 
 		@Override
 		public void handle(final AnnotationValues<Action> annotation, final Annotation source, final EclipseNode annotationNode) {
-			new HandleActionFunctionAndPredicate().handle(annotation.getInstance().value(), source, annotationNode, "void");
+			final Action instance = annotation.getInstance();
+			new HandleActionFunctionAndPredicate().handle(instance.value(), instance.javaUtilFunction(), source, annotationNode, "void");
 		}
 	}
 
@@ -78,7 +84,8 @@ public class HandleActionFunctionAndPredicate {
 
 		@Override
 		public void handle(final AnnotationValues<Function> annotation, final Annotation source, final EclipseNode annotationNode) {
-			new HandleActionFunctionAndPredicate().handle(annotation.getInstance().value(), source, annotationNode, null);
+			final Function instance = annotation.getInstance();
+			new HandleActionFunctionAndPredicate().handle(instance.value(), instance.javaUtilFunction(), source, annotationNode, null);
 		}
 	}
 
@@ -91,11 +98,13 @@ public class HandleActionFunctionAndPredicate {
 
 		@Override
 		public void handle(final AnnotationValues<Predicate> annotation, final Annotation source, final EclipseNode annotationNode) {
-			new HandleActionFunctionAndPredicate().handle(annotation.getInstance().value(), source, annotationNode, "boolean");
+			final Predicate instance = annotation.getInstance();
+			new HandleActionFunctionAndPredicate().handle(instance.value(), instance.javaUtilFunction(), source, annotationNode, "boolean");
 		}
 	}
 
-	public void handle(final Class<?> templates, final Annotation source, final EclipseNode annotationNode, final String forcedReturnType) {
+	public void handle(final Class<?> templates, final boolean javaUtilFunction, final Annotation source, final EclipseNode annotationNode,
+			final String forcedReturnType) {
 		final TypeReference annotationType = source.type;
 		final EclipseMethod method = EclipseMethod.methodOf(annotationNode, source);
 		if (method.isAbstract()) {
@@ -107,30 +116,46 @@ public class HandleActionFunctionAndPredicate {
 			return;
 		}
 
-		final ReferenceBinding resolvedTemplates = resolveTemplates(method.node(), source, templates);
-		if (resolvedTemplates == null) {
-			annotationNode.addError(String.format("@%s unable to resolve template type", annotationType));
-			return;
+		final List<TemplateData> matchingTemplates = new ArrayList<TemplateData>();
+		if (javaUtilFunction) {
+			for (String templateName : javaUtilTemplatesFor(forcedReturnType)) {
+				final ReferenceBinding resolvedTemplate = resolveTemplates(method.node(), source, templateName);
+				if (resolvedTemplate == null) {
+					annotationNode.addError(String.format("@%s unable to resolve '%s', javaUtilFunction requires Java 8", annotationType, templateName));
+					return;
+				}
+				final TemplateData templateData = templateDataFor(method.get(), resolvedTemplate, forcedReturnType);
+				if (templateData != null) matchingTemplates.add(templateData);
+			}
+		} else {
+			final ReferenceBinding resolvedTemplates = resolveTemplates(method.node(), source, templates.getName());
+			if (resolvedTemplates == null) {
+				annotationNode.addError(String.format("@%s unable to resolve template type", annotationType));
+				return;
+			}
+			matchingTemplates.addAll(findTemplatesFor(method.get(), resolvedTemplates, forcedReturnType));
 		}
-		final List<TemplateData> matchingTemplates = findTemplatesFor(method.get(), resolvedTemplates, forcedReturnType);
 		if (matchingTemplates.isEmpty()) {
 			annotationNode.addError(String.format("@%s no template found that matches the given method signature", annotationType));
 			return;
 		}
-		if (matchingTemplates.size() > 1) {
+		final TemplateData template = mostSpecificTemplateOf(matchingTemplates);
+		if (template == null) {
 			annotationNode.addError(String.format("@%s more than one template found that matches the given method signature", annotationType));
 			return;
 		}
-		new ActionFunctionAndPredicateHandler<EclipseType, EclipseMethod>().rebuildMethod(method, matchingTemplates.get(0), new EclipseParameterValidator(), new EclipseParameterSanitizer());
+		new ActionFunctionAndPredicateHandler<EclipseType, EclipseMethod>().rebuildMethod(method, template, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 
 	}
 
-	private ReferenceBinding resolveTemplates(final EclipseNode node, final Annotation annotation, final Class<?> templatesDef) {
+	private ReferenceBinding resolveTemplates(final EclipseNode node, final Annotation annotation, final String templatesName) {
 		final EclipseType type = EclipseType.typeOf(node, annotation);
 		final BlockScope blockScope = type.get().initializerScope;
-		final char[][] typeNameTokens = fromQualifiedName(templatesDef.getName());
+		final char[][] typeNameTokens = fromQualifiedName(templatesName);
 		final TypeReference typeRef = new QualifiedTypeReference(typeNameTokens, poss(annotation, typeNameTokens.length));
-		return (ReferenceBinding) typeRef.resolveType(blockScope);
+		final TypeBinding resolvedType = typeRef.resolveType(blockScope);
+		if ((resolvedType == null) || !resolvedType.isValidBinding()) return null;
+		return (ReferenceBinding) resolvedType;
 	}
 
 	private List<TemplateData> findTemplatesFor(final AbstractMethodDeclaration methodDecl, final ReferenceBinding template, final String forcedReturnType) {
@@ -152,15 +177,36 @@ public class HandleActionFunctionAndPredicate {
 		if (enclosedMethods.size() != 1) return null;
 		final MethodBinding enclosedMethod = enclosedMethods.get(0);
 		if (!matchesReturnType(enclosedMethod, forcedReturnType)) return null;
-		final List<TypeBinding> methodTypeArguments = As.list(enclosedMethod.parameters);
-		if (forcedReturnType == null) methodTypeArguments.add(enclosedMethod.returnType);
-		if (!templateTypeArguments.equals(methodTypeArguments)) return null;
+		final List<Argument> parameters = parametersOf(methodDecl);
+		if (parameters.size() != enclosedMethod.parameters.length) return null;
+		final List<TypeBinding> methodTypeArguments = new ArrayList<TypeBinding>();
+		final Set<Integer> primitiveParameters = new HashSet<Integer>();
+		for (int i = 0, iend = parameters.size(); i < iend; i++) {
+			final TypeBinding enclosedParameterType = enclosedMethod.parameters[i];
+			if (isPrimitive(enclosedParameterType)) {
+				if (!As.string(enclosedParameterType.sourceName()).equals(As.string(parameters.get(i).type))) return null;
+				primitiveParameters.add(i);
+			} else {
+				methodTypeArguments.add(enclosedParameterType);
+			}
+		}
+		boolean primitiveReturn = false;
 		if (forcedReturnType == null) {
-			if ((numberOfParameters(methodDecl) + 1) != templateTypeArguments.size()) return null;
-		} else {
-			if (numberOfParameters(methodDecl) != templateTypeArguments.size()) return null;
+			final TypeBinding enclosedReturnType = enclosedMethod.returnType;
+			if (isPrimitive(enclosedReturnType)) {
+				if (!(methodDecl instanceof MethodDeclaration)) return null;
+				if (!As.string(enclosedReturnType.sourceName()).equals(As.string(((MethodDeclaration) methodDecl).returnType))) return null;
+				primitiveReturn = true;
+			} else {
+				methodTypeArguments.add(enclosedReturnType);
+			}
 		}
-		return new TemplateData(qualifiedName(template), As.string(enclosedMethod.selector), forcedReturnType);
+		if (!templateTypeArguments.equals(methodTypeArguments)) return null;
+		return new TemplateData(qualifiedName(template), As.string(enclosedMethod.selector), forcedReturnType, primitiveParameters, primitiveReturn);
+	}
+
+	private boolean isPrimitive(final TypeBinding type) {
+		return type.isBaseType() && (type.id != TypeIds.T_void);
 	}
 
 	// for now only works for void or boolean
@@ -171,12 +217,12 @@ public class HandleActionFunctionAndPredicate {
 		return false;
 	}
 
-	private int numberOfParameters(final AbstractMethodDeclaration methodDecl) {
-		int numberOfParameters = 0;
+	private List<Argument> parametersOf(final AbstractMethodDeclaration methodDecl) {
+		final List<Argument> parameters = new ArrayList<Argument>();
 		for (Argument param : Each.elementIn(methodDecl.arguments)) {
-			if (!As.string(param.name).startsWith("_")) numberOfParameters++;
+			if (!As.string(param.name).startsWith("_")) parameters.add(param);
 		}
-		return numberOfParameters;
+		return parameters;
 	}
 
 	private String qualifiedName(final TypeBinding typeBinding) {
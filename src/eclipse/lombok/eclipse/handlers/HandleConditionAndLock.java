@@ -21,6 +21,8 @@
  */
 package lombok.eclipse.handlers;
 
+import static lombok.eclipse.Eclipse.toQualifiedName;
+
 import lombok.*;
 import lombok.core.AnnotationValues;
 import lombok.core.handlers.ConditionAndLockHandler;
@@ -32,6 +34,7 @@ import lombok.eclipse.handlers.ast.EclipseMethod;
 import lombok.eclipse.handlers.ast.EclipseType;
 
 import org.eclipse.jdt.internal.compiler.ast.Annotation;
+import org.eclipse.jdt.internal.compiler.ast.ClassLiteralAccess;
 import org.mangosdk.spi.ProviderFor;
 
 public class HandleConditionAndLock {
@@ -47,6 +50,9 @@ public class HandleConditionAndLock {
 			ReadLock ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
 					.withLockMethod("readLock") //
+					.withOptimistic(ann.optimistic()) //
+					.withStripes(ann.stripedBy(), ann.stripes()) //
+					.withMetrics(ann.metrics()) //
 					.preHandle(ann.value(), ReadLock.class);
 		}
 
@@ -55,6 +61,10 @@ public class HandleConditionAndLock {
 			ReadLock ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
 					.withLockMethod("readLock") //
+					.withOptimistic(ann.optimistic()) //
+					.withStripes(ann.stripedBy(), ann.stripes()) //
+					.withTimeout(new TimeoutData(ann.timeout(), ann.unit(), timeoutExceptionOf(annotation), ann.onTimeout())) //
+					.withMetrics(ann.metrics()) //
 					.handle(ann.value(), ReadLock.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 		}
 	}
@@ -70,6 +80,8 @@ public class HandleConditionAndLock {
 			WriteLock ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
 					.withLockMethod("writeLock") //
+					.withStripes(ann.stripedBy(), ann.stripes()) //
+					.withMetrics(ann.metrics()) //
 					.preHandle(ann.value(), WriteLock.class);
 		}
 
@@ -78,6 +90,9 @@ public class HandleConditionAndLock {
 			WriteLock ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
 					.withLockMethod("writeLock") //
+					.withStripes(ann.stripedBy(), ann.stripes()) //
+					.withTimeout(new TimeoutData(ann.timeout(), ann.unit(), timeoutExceptionOf(annotation), ann.onTimeout())) //
+					.withMetrics(ann.metrics()) //
 					.handle(ann.value(), WriteLock.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 		}
 	}
@@ -92,7 +107,7 @@ public class HandleConditionAndLock {
 		public void preHandle(final AnnotationValues<Signal> annotation, final Annotation ast, final EclipseNode annotationNode) {
 			Signal ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
-					.withSignal(new SignalData(ann.value(), ann.pos())) //
+					.withSignal(new SignalData(ann.value(), ann.pos(), ann.all(), ann.ifWaiters())) //
 					.preHandle(ann.lockName(), Signal.class);
 		}
 
@@ -100,7 +115,7 @@ public class HandleConditionAndLock {
 		public void handle(final AnnotationValues<Signal> annotation, final Annotation ast, final EclipseNode annotationNode) {
 			Signal ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
-					.withSignal(new SignalData(ann.value(), ann.pos())) //
+					.withSignal(new SignalData(ann.value(), ann.pos(), ann.all(), ann.ifWaiters())) //
 					.handle(ann.lockName(), Signal.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 		}
 	}
@@ -115,7 +130,8 @@ public class HandleConditionAndLock {
 		public void preHandle(final AnnotationValues<Await> annotation, final Annotation ast, final EclipseNode annotationNode) {
 			Await ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
-					.withAwait(new AwaitData(ann.conditionName(), ann.conditionMethod(), ann.pos())) //
+					.withAwait(new AwaitData(ann.conditionName(), ann.conditionMethod(), ann.pos(), ann.interruptible())) //
+					.withMetrics(ann.metrics()) //
 					.preHandle(ann.lockName(), Await.class);
 		}
 
@@ -123,7 +139,9 @@ public class HandleConditionAndLock {
 		public void handle(final AnnotationValues<Await> annotation, final Annotation ast, final EclipseNode annotationNode) {
 			Await ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
-					.withAwait(new AwaitData(ann.conditionName(), ann.conditionMethod(), ann.pos())) //
+					.withAwait(new AwaitData(ann.conditionName(), ann.conditionMethod(), ann.pos(), ann.interruptible())) //
+					.withTimeout(new TimeoutData(ann.timeout(), ann.unit(), timeoutExceptionOf(annotation), ann.onTimeout())) //
+					.withMetrics(ann.metrics()) //
 					.handle(ann.lockName(), Await.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 		}
 	}
@@ -138,8 +156,8 @@ public class HandleConditionAndLock {
 		public void preHandle(final AnnotationValues<AwaitBeforeAndSignalAfter> annotation, final Annotation ast, final EclipseNode annotationNode) {
 			AwaitBeforeAndSignalAfter ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
-					.withAwait(new AwaitData(ann.awaitConditionName(), ann.awaitConditionMethod(), Position.BEFORE)) //
-					.withSignal(new SignalData(ann.signalConditionName(), Position.AFTER)) //
+					.withAwait(new AwaitData(ann.awaitConditionName(), ann.awaitConditionMethod(), Position.BEFORE, ann.interruptible())) //
+					.withSignal(new SignalData(ann.signalConditionName(), Position.AFTER, ann.signalAll(), ann.signalIfWaiters())) //
 					.preHandle(ann.lockName(), AwaitBeforeAndSignalAfter.class);
 		}
 
@@ -147,8 +165,8 @@ public class HandleConditionAndLock {
 		public void handle(final AnnotationValues<AwaitBeforeAndSignalAfter> annotation, final Annotation ast, final EclipseNode annotationNode) {
 			AwaitBeforeAndSignalAfter ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast) //
-					.withAwait(new AwaitData(ann.awaitConditionName(), ann.awaitConditionMethod(), Position.BEFORE)) //
-					.withSignal(new SignalData(ann.signalConditionName(), Position.AFTER)) //
+					.withAwait(new AwaitData(ann.awaitConditionName(), ann.awaitConditionMethod(), Position.BEFORE, ann.interruptible())) //
+					.withSignal(new SignalData(ann.signalConditionName(), Position.AFTER, ann.signalAll(), ann.signalIfWaiters())) //
 					.handle(ann.lockName(), AwaitBeforeAndSignalAfter.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 		}
 	}
@@ -156,4 +174,16 @@ public class HandleConditionAndLock {
 	private static ConditionAndLockHandler<EclipseType, EclipseMethod> prepareConditionAndLockHandler(final EclipseNode node, final Annotation source) {
 		return new ConditionAndLockHandler<EclipseType, EclipseMethod>(EclipseType.typeOf(node, source), EclipseMethod.methodOf(node, source), node);
 	}
+
+	/**
+	 * Reads {@code timeoutException} from the source instead of via {@link AnnotationValues#getInstance()}, which would need
+	 * the exception class to be loadable by the annotation processor.
+	 */
+	private static String timeoutExceptionOf(final AnnotationValues<?> annotation) {
+		final Object exception = annotation.getActualExpression("timeoutException");
+		if (exception instanceof ClassLiteralAccess) {
+			return toQualifiedName(((ClassLiteralAccess) exception).type.getTypeName());
+		}
+		return IllegalStateException.class.getName();
+	}
 }
@@ -22,15 +22,32 @@
 package lombok.eclipse.handlers;
 
 import static lombok.core.util.ErrorMessages.*;
+
+import java.util.*;
+
 import lombok.*;
 import lombok.core.AnnotationValues;
 import lombok.core.handlers.EnumIdHandler;
+import lombok.core.util.As;
+import lombok.core.util.Each;
 import lombok.eclipse.EclipseAnnotationHandler;
 import lombok.eclipse.EclipseNode;
 import lombok.eclipse.handlers.ast.EclipseField;
+import lombok.eclipse.handlers.ast.EclipseMethod;
 import lombok.eclipse.handlers.ast.EclipseType;
 
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.AbstractVariableDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.AllocationExpression;
 import org.eclipse.jdt.internal.compiler.ast.Annotation;
+import org.eclipse.jdt.internal.compiler.ast.Assignment;
+import org.eclipse.jdt.internal.compiler.ast.CompoundAssignment;
+import org.eclipse.jdt.internal.compiler.ast.Expression;
+import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.FieldReference;
+import org.eclipse.jdt.internal.compiler.ast.SingleNameReference;
+import org.eclipse.jdt.internal.compiler.ast.Statement;
+import org.eclipse.jdt.internal.compiler.ast.StringLiteral;
 import org.mangosdk.spi.ProviderFor;
 
 /**
@@ -48,6 +65,72 @@ public class HandleEnumId extends EclipseAnnotationHandler<EnumId> {
 			return;
 		}
 
-		new EnumIdHandler<EclipseType, EclipseField>(type, field, annotationNode).handle();
+		new EnumIdHandler<EclipseType, EclipseField>(type, field, annotationNode) {
+
+			@Override
+			protected Map<String, String> stringIdsByConstantName(final EclipseType type, final EclipseField field) {
+				final Map<Integer, Integer> argumentIndexByArity = new HashMap<Integer, Integer>();
+				for (EclipseMethod method : type.methods()) {
+					if (!method.isConstructor()) continue;
+					final int arity = method.get().arguments == null ? 0 : method.get().arguments.length;
+					argumentIndexByArity.put(arity, argumentIndexByArity.containsKey(arity) ? -1 : argumentIndexOf(method.get(), field.name()));
+				}
+				final Map<String, String> stringIds = new LinkedHashMap<String, String>();
+				for (FieldDeclaration enumConstant : Each.elementIn(type.get().fields)) {
+					if (enumConstant.getKind() != AbstractVariableDeclaration.ENUM_CONSTANT) continue;
+					if (!(enumConstant.initialization instanceof AllocationExpression)) return null;
+					final Expression[] args = ((AllocationExpression) enumConstant.initialization).arguments;
+					final Integer argumentIndex = argumentIndexByArity.get(args == null ? 0 : args.length);
+					if ((argumentIndex == null) || (argumentIndex < 0)) return null;
+					final Expression arg = args[argumentIndex];
+					if (!(arg instanceof StringLiteral)) return null;
+					stringIds.put(As.string(enumConstant.name), As.string(((StringLiteral) arg).source()));
+				}
+				return stringIds;
+			}
+		}.handle();
+	}
+
+	/**
+	 * Returns the index of the constructor argument that gets assigned to the given field, or {@code -1} if there is no
+	 * such argument or the field gets assigned more than once. To make sure the argument reaches the field unchanged, the
+	 * constructor may only consist of plain assignments of arguments to fields, anything else results in {@code -1} as well.
+	 * Note that the statements of constructors that are not generated by lombok are not available until the diet parse is
+	 * over, so those won't be recognized.
+	 */
+	private static int argumentIndexOf(final AbstractMethodDeclaration constructor, final String fieldName) {
+		if (constructor.statements == null) return -1;
+		int argumentIndex = -1;
+		for (Statement statement : constructor.statements) {
+			if (!(statement instanceof Assignment) || (statement instanceof CompoundAssignment)) return -1;
+			final Assignment assign = (Assignment) statement;
+			final String assignedFieldName = fieldNameOf(assign.lhs, constructor);
+			if ((assignedFieldName == null) || !(assign.expression instanceof SingleNameReference)) return -1;
+			final int parameterIndex = parameterIndexOf(As.string(((SingleNameReference) assign.expression).token), constructor);
+			if (parameterIndex < 0) return -1;
+			if (!fieldName.equals(assignedFieldName)) continue;
+			if (argumentIndex >= 0) return -1;
+			argumentIndex = parameterIndex;
+		}
+		return argumentIndex;
+	}
+
+	private static String fieldNameOf(final Expression expression, final AbstractMethodDeclaration constructor) {
+		if (expression instanceof FieldReference) {
+			final FieldReference fieldRef = (FieldReference) expression;
+			return fieldRef.receiver.isThis() ? As.string(fieldRef.token) : null;
+		}
+		if (expression instanceof SingleNameReference) {
+			final String name = As.string(((SingleNameReference) expression).token);
+			return parameterIndexOf(name, constructor) < 0 ? name : null;
+		}
+		return null;
+	}
+
+	private static int parameterIndexOf(final String name, final AbstractMethodDeclaration constructor) {
+		for (int i = 0, iend = constructor.arguments == null ? 0 : constructor.arguments.length; i < iend; i++) {
+			if (name.equals(As.string(constructor.arguments[i].name))) return i;
+		}
+		return -1;
 	}
 }
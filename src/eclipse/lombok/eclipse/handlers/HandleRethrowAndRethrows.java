@@ -51,7 +51,7 @@ public class HandleRethrowAndRethrows {
 		public void handle(final AnnotationValues<Rethrow> annotation, final Annotation source, final EclipseNode annotationNode) {
 			Rethrow ann = annotation.getInstance();
 			new RethrowAndRethrowsHandler<EclipseMethod>(EclipseMethod.methodOf(annotationNode, source), annotationNode) //
-					.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message())) //
+					.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message(), ann.stackless(), ann.lazyMessage())) //
 					.handle(Rethrow.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 		}
 	}
@@ -68,7 +68,7 @@ public class HandleRethrowAndRethrows {
 			for (Object rethrow : annotation.getActualExpressions("value")) {
 				EclipseNode rethrowNode = new InitializableEclipseNode(annotationNode.getAst(), (ASTNode) rethrow, new ArrayList<EclipseNode>(), Kind.ANNOTATION);
 				Rethrow ann = createAnnotation(Rethrow.class, rethrowNode).getInstance();
-				handler.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message()));
+				handler.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message(), ann.stackless(), ann.lazyMessage()));
 			}
 			handler.handle(Rethrows.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
 		}
@@ -42,8 +42,12 @@ public class HandleSwingInvoke {
 	public static class HandleSwingInvokeLater extends EclipseAnnotationHandler<SwingInvokeLater> {
 		@Override
 		public void handle(final AnnotationValues<SwingInvokeLater> annotation, final Annotation source, final EclipseNode annotationNode) {
-			new SwingInvokeHandler<EclipseMethod>(EclipseMethod.methodOf(annotationNode, source), annotationNode) //
-					.handle("invokeLater", SwingInvokeLater.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
+			final SwingInvokeHandler<EclipseMethod> handler = new SwingInvokeHandler<EclipseMethod>(EclipseMethod.methodOf(annotationNode, source), annotationNode);
+			if (annotation.getInstance().coalesce()) {
+				handler.handleCoalesced(new EclipseParameterValidator(), new EclipseParameterSanitizer());
+			} else {
+				handler.handle("invokeLater", SwingInvokeLater.class, new EclipseParameterValidator(), new EclipseParameterSanitizer());
+			}
 		}
 	}
 
@@ -82,16 +82,31 @@ import lombok.eclipse.handlers.ast.EclipseMethod;
 
 // @ProviderFor(EclipseASTVisitor.class) // TODO
 public class HandleYield extends EclipseASTAdapter {
+	private final Set<AbstractMethodDeclaration> yieldingMethods = new HashSet<AbstractMethodDeclaration>();
+
+	/**
+	 * {@code @AsyncYield} is only looked at while handling a {@code yield()}, so on a method without one it would be
+	 * silently ignored.
+	 */
+	@Override
+	public void endVisitMethod(final EclipseNode methodNode, final AbstractMethodDeclaration method) {
+		if (yieldingMethods.remove(method)) return;
+		final EclipseNode asyncYieldNode = EclipseMethod.methodOf(methodNode, method).getAnnotation(AsyncYield.class);
+		if (asyncYieldNode != null) {
+			asyncYieldNode.addError("@AsyncYield can only be used on methods that contain yield() or yieldAll().");
+		}
+	}
 
 	@Override
 	public void visitStatement(final EclipseNode statementNode, final Statement statement) {
 		if (statement instanceof MessageSend) {
 			String methodName = getMethodName((MessageSend) statement);
-			if (isMethodCallValid(statementNode, methodName, Yield.class, "yield")) {
+			if (isMethodCallValid(statementNode, methodName, Yield.class, "yield") || isMethodCallValid(statementNode, methodName, Yield.class, "yieldAll")) {
 				final EclipseMethod method = EclipseMethod.methodOf(statementNode, statement);
 				if ((method == null) || method.isConstructor()) {
 					statementNode.addError(canBeUsedInBodyOfMethodsOnly("yield"));
 				} else {
+					yieldingMethods.add(method.get());
 					new YieldHandler<EclipseMethod, ASTNode>().handle(method, new EclipseYieldDataCollector());
 				}
 			}
@@ -189,12 +204,16 @@ public class HandleYield extends EclipseASTAdapter {
 		}
 
 		private Expression getYieldExpression(final MessageSend invoke) {
-			if ("yield".equals(As.string(invoke.selector)) && (invoke.arguments != null) && (invoke.arguments.length == 1)) {
+			if (("yield".equals(As.string(invoke.selector)) || isYieldAll(invoke)) && (invoke.arguments != null) && (invoke.arguments.length == 1)) {
 				return invoke.arguments[0];
 			}
 			return null;
 		}
 
+		private boolean isYieldAll(final MessageSend invoke) {
+			return "yieldAll".equals(As.string(invoke.selector));
+		}
+
 		private boolean isTrueLiteral(final Expression expression) {
 			return expression instanceof TrueLiteral;
 		}
@@ -759,11 +778,13 @@ public class HandleYield extends EclipseASTAdapter {
 			public boolean visit(final MessageSend tree, final BlockScope scope) {
 				final Expression expression = getYieldExpression(tree);
 				if (expression != null) {
+					final boolean all = isYieldAll(tree);
+					delegating |= all;
 					yields.add(new Scope<ASTNode>(current, tree) {
 						@Override
 						public void refactor() {
 							lombok.ast.Case label = getBreakLabel(this);
-							addStatement(Assign(Name(nextName), Expr(expression)));
+							addStatement(yieldStatement(Expr(expression), all));
 							addStatement(setState(literal(label)));
 							addStatement(Return(True()));
 							addLabel(label);
@@ -361,11 +361,27 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 
 	@Override
 	public ASTNode visitCharLiteral(final lombok.ast.CharLiteral node, final Void p) {
-		final CharLiteral literal = new CharLiteral(node.getCharacter().toCharArray(), 0, 0);
+		final CharLiteral literal = new CharLiteral(charLiteralToken(node.getCharacter().charAt(0)), 0, 0);
 		setGeneratedByAndCopyPos(literal, source, posHintOf(node));
 		return literal;
 	}
 
+	private static char[] charLiteralToken(final char c) {
+		final String escaped;
+		switch (c) {
+		case '\b': escaped = "\\b"; break;
+		case '\t': escaped = "\\t"; break;
+		case '\n': escaped = "\\n"; break;
+		case '\f': escaped = "\\f"; break;
+		case '\r': escaped = "\\r"; break;
+		case '\'': escaped = "\\'"; break;
+		case '\\': escaped = "\\\\"; break;
+		default:
+			escaped = (c < ' ') ? "\\" + Integer.toOctalString(c) : String.valueOf(c);
+		}
+		return ("'" + escaped + "'").toCharArray();
+	}
+
 	@Override
 	public ASTNode visitClassDecl(final lombok.ast.ClassDecl node, final Void p) {
 		final TypeDeclaration typeDeclaration = new TypeDeclaration(((CompilationUnitDeclaration) sourceNode.top().get()).compilationResult);
@@ -408,7 +424,12 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 		setGeneratedByAndCopyPos(constructorDeclaration, source, posHintOf(node));
 		constructorDeclaration.modifiers = modifiersFor(node.getModifiers());
 		constructorDeclaration.annotations = toArray(build(node.getAnnotations()), new Annotation[0]);
-		if (node.implicitSuper()) {
+		if (!node.getSuperArguments().isEmpty()) {
+			final ExplicitConstructorCall superCall = new ExplicitConstructorCall(ExplicitConstructorCall.Super);
+			setGeneratedByAndCopyPos(superCall, source, posHintOf(node));
+			superCall.arguments = toArray(build(node.getSuperArguments()), new Expression[0]);
+			constructorDeclaration.constructorCall = superCall;
+		} else if (node.implicitSuper()) {
 			constructorDeclaration.constructorCall = new ExplicitConstructorCall(ExplicitConstructorCall.ImplicitSuper);
 		}
 		constructorDeclaration.selector = node.getName().toCharArray();
@@ -450,7 +471,7 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 			} else if ("short".equals(name)) {
 				returnValue = Number(Integer.valueOf(0));
 			} else if ("char".equals(name)) {
-				returnValue = Char("");
+				returnValue = Char("\0");
 			} else if ("long".equals(name)) {
 				returnValue = Number(Long.valueOf(0));
 			} else if ("float".equals(name)) {
@@ -642,6 +663,9 @@ public final class EclipseASTMaker implements lombok.ast.ASTVisitor<ASTNode, Voi
 		allocationExpression.type = build(node.getType());
 		final List<Expression> dims = new ArrayList<Expression>();
 		dims.addAll(build(node.getDimensionExpressions(), Expression.class));
+		while (dims.size() < node.getDimensions()) {
+			dims.add(null);
+		}
 		allocationExpression.dimensions = toArray(dims, new Expression[0]);
 		final List<Expression> initializerExpressions = build(node.getInitializerExpressions(), Expression.class);
 		if (!initializerExpressions.isEmpty()) {
@@ -23,6 +23,7 @@ package lombok.eclipse.handlers.ast;
 
 import static org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants.*;
 import static lombok.ast.AST.*;
+import static lombok.eclipse.Eclipse.toQualifiedName;
 import static lombok.eclipse.handlers.Eclipse.matchesType;
 import static lombok.eclipse.handlers.EclipseHandlerUtil.createAnnotation;
 
@@ -31,14 +32,19 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.AllocationExpression;
 import org.eclipse.jdt.internal.compiler.ast.Annotation;
+import org.eclipse.jdt.internal.compiler.ast.Expression;
 import org.eclipse.jdt.internal.compiler.ast.FieldDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.Literal;
 import org.eclipse.jdt.internal.compiler.ast.MemberValuePair;
 import org.eclipse.jdt.internal.compiler.ast.NormalAnnotation;
 import org.eclipse.jdt.internal.compiler.ast.ParameterizedQualifiedTypeReference;
 import org.eclipse.jdt.internal.compiler.ast.ParameterizedSingleTypeReference;
+import org.eclipse.jdt.internal.compiler.ast.QualifiedAllocationExpression;
 import org.eclipse.jdt.internal.compiler.ast.SingleMemberAnnotation;
 import org.eclipse.jdt.internal.compiler.ast.TypeReference;
+import org.eclipse.jdt.internal.compiler.ast.UnaryExpression;
 
 import lombok.core.AnnotationValues;
 import lombok.core.AST.Kind;
@@ -97,6 +103,10 @@ public final class EclipseField implements lombok.ast.IField<EclipseType, Eclips
 		return Eclipse.isPrimitive(get().type);
 	}
 
+	public boolean isArray() {
+		return (get().type != null) && (get().type.dimensions() > 0);
+	}
+
 	public boolean hasJavaDoc() {
 		return get().javadoc != null;
 	}
@@ -171,6 +181,20 @@ public final class EclipseField implements lombok.ast.IField<EclipseType, Eclips
 		return get().initialization == null ? null : Expr(get().initialization);
 	}
 
+	public String instantiatedType() {
+		if (!(get().initialization instanceof AllocationExpression)) return null;
+		final AllocationExpression allocation = (AllocationExpression) get().initialization;
+		if (Is.notEmpty(allocation.arguments)) return null;
+		if ((allocation instanceof QualifiedAllocationExpression) && (((QualifiedAllocationExpression) allocation).anonymousType != null)) return null;
+		return toQualifiedName(allocation.type.getTypeName());
+	}
+
+	public boolean isInitializedWithLiteral() {
+		Expression initialization = get().initialization;
+		if (initialization instanceof UnaryExpression) initialization = ((UnaryExpression) initialization).expression;
+		return initialization instanceof Literal;
+	}
+
 	public List<lombok.ast.TypeRef> typeArguments() {
 		final List<lombok.ast.TypeRef> typeArguments = new ArrayList<lombok.ast.TypeRef>();
 		final TypeReference type = get().type;
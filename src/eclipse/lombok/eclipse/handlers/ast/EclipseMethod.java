@@ -243,6 +243,21 @@ public final class EclipseMethod implements lombok.ast.IMethod<EclipseType, Ecli
 		return thrownExceptions;
 	}
 
+	public boolean throwsException(final String typeName) {
+		for (TypeReference thrownException : Each.elementIn(get().thrownExceptions)) {
+			StringBuilder sb = new StringBuilder();
+			boolean first = true;
+			for (char[] elem : thrownException.getTypeName()) {
+				if (first) first = false;
+				else sb.append('.');
+				sb.append(elem);
+			}
+			String type = sb.toString();
+			if (type.equals(typeName) || type.endsWith("." + typeName)) return true;
+		}
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return get().toString();
@@ -86,6 +86,14 @@ public final class EclipseType implements lombok.ast.IType<EclipseMethod, Eclips
 		return !isInterface() && !isEnum() && !isAnnotation();
 	}
 
+	public boolean isInner() {
+		final EclipseNode parent = node().directUp();
+		if ((parent == null) || (parent.getKind() == Kind.COMPILATION_UNIT)) return false;
+		if (!isClass()) return false;
+		if ((parent.getKind() == Kind.TYPE) && !EclipseType.typeOf(parent, source).isClass()) return false;
+		return (get().modifiers & AccStatic) == 0;
+	}
+
 	public boolean hasSuperClass() {
 		return get().superclass != null;
 	}
@@ -216,6 +224,13 @@ public final class EclipseType implements lombok.ast.IType<EclipseMethod, Eclips
 		return annotations;
 	}
 
+	public boolean hasType(final String typeName) {
+		for (EclipseNode child : node().down()) {
+			if ((child.getKind() == Kind.TYPE) && child.getName().equals(typeName)) return true;
+		}
+		return false;
+	}
+
 	public boolean hasField(final String fieldName) {
 		return (fieldExists(fieldName, typeNode) != MemberExistsResult.NOT_EXISTS);
 	}
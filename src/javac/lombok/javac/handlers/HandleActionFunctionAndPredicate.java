@@ -21,11 +21,15 @@
  */
 package lombok.javac.handlers;
 
+import static lombok.core.handlers.ActionFunctionAndPredicateHandler.javaUtilTemplatesFor;
+import static lombok.core.handlers.ActionFunctionAndPredicateHandler.mostSpecificTemplateOf;
 import static lombok.javac.handlers.JavacHandlerUtil.deleteAnnotationIfNeccessary;
 import static lombok.javac.handlers.ast.JavacResolver.CLASS;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.mangosdk.spi.ProviderFor;
 
@@ -48,6 +52,7 @@ import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.code.Symbol.MethodSymbol;
 import com.sun.tools.javac.code.Symbol.TypeSymbol;
+import com.sun.tools.javac.model.JavacElements;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
@@ -67,7 +72,7 @@ public class HandleActionFunctionAndPredicate {
 		@Override
 		public void handle(final AnnotationValues<Action> annotation, final JCAnnotation source, final JavacNode annotationNode) {
 			deleteAnnotationIfNeccessary(annotationNode, Action.class);
-			new HandleActionFunctionAndPredicate().handle(annotation, source, annotationNode, "void");
+			new HandleActionFunctionAndPredicate().handle(annotation, annotation.getInstance().javaUtilFunction(), source, annotationNode, "void");
 		}
 	}
 
@@ -81,7 +86,7 @@ public class HandleActionFunctionAndPredicate {
 		@Override
 		public void handle(final AnnotationValues<Function> annotation, final JCAnnotation source, final JavacNode annotationNode) {
 			deleteAnnotationIfNeccessary(annotationNode, Function.class);
-			new HandleActionFunctionAndPredicate().handle(annotation, source, annotationNode, null);
+			new HandleActionFunctionAndPredicate().handle(annotation, annotation.getInstance().javaUtilFunction(), source, annotationNode, null);
 		}
 	}
 
@@ -95,11 +100,12 @@ public class HandleActionFunctionAndPredicate {
 		@Override
 		public void handle(final AnnotationValues<Predicate> annotation, final JCAnnotation source, final JavacNode annotationNode) {
 			deleteAnnotationIfNeccessary(annotationNode, Predicate.class);
-			new HandleActionFunctionAndPredicate().handle(annotation, source, annotationNode, "boolean");
+			new HandleActionFunctionAndPredicate().handle(annotation, annotation.getInstance().javaUtilFunction(), source, annotationNode, "boolean");
 		}
 	}
 
-	public void handle(final AnnotationValues<? extends java.lang.annotation.Annotation> annotation, final JCAnnotation source, final JavacNode annotationNode, final String forcedReturnType) {
+	public void handle(final AnnotationValues<? extends java.lang.annotation.Annotation> annotation, final boolean javaUtilFunction, final JCAnnotation source,
+			final JavacNode annotationNode, final String forcedReturnType) {
 		final JCTree annotationType = source.annotationType;
 		final JavacMethod method = JavacMethod.methodOf(annotationNode, source);
 		if (method.isAbstract()) {
@@ -111,18 +117,33 @@ public class HandleActionFunctionAndPredicate {
 			return;
 		}
 
-		final Object templates = annotation.getActualExpression("value");
-		final TypeSymbol resolvedTemplates = resolveTemplates(method.node(), source, templates);
-		if (resolvedTemplates == null) {
-			annotationNode.addError(String.format("@%s unable to resolve template type", annotationType));
-			return;
+		final List<TemplateData> matchingTemplates = new ArrayList<TemplateData>();
+		if (javaUtilFunction) {
+			final JavacElements elements = JavacElements.instance(annotationNode.getContext());
+			for (String templateName : javaUtilTemplatesFor(forcedReturnType)) {
+				final TypeSymbol resolvedTemplate = elements.getTypeElement(templateName);
+				if (resolvedTemplate == null) {
+					annotationNode.addError(String.format("@%s unable to resolve '%s', javaUtilFunction requires Java 8", annotationType, templateName));
+					return;
+				}
+				final TemplateData templateData = templateDataFor(method.get(), resolvedTemplate, forcedReturnType);
+				if (templateData != null) matchingTemplates.add(templateData);
+			}
+		} else {
+			final Object templates = annotation.getActualExpression("value");
+			final TypeSymbol resolvedTemplates = resolveTemplates(method.node(), source, templates);
+			if (resolvedTemplates == null) {
+				annotationNode.addError(String.format("@%s unable to resolve template type", annotationType));
+				return;
+			}
+			matchingTemplates.addAll(findTemplatesFor(method.get(), resolvedTemplates, forcedReturnType));
 		}
-		final List<TemplateData> matchingTemplates = findTemplatesFor(method.get(), resolvedTemplates, forcedReturnType);
 		if (matchingTemplates.isEmpty()) {
 			annotationNode.addError(String.format("@%s no template found that matches the given method signature", annotationType));
 			return;
 		}
-		if (matchingTemplates.size() > 1) {
+		final TemplateData template = mostSpecificTemplateOf(matchingTemplates);
+		if (template == null) {
 			annotationNode.addError(String.format("@%s more than one template found that matches the given method signature", annotationType));
 			return;
 		}
@@ -131,7 +152,7 @@ public class HandleActionFunctionAndPredicate {
 		// TODO maybe we should prioritize lombok handler
 		method.node().traverse(new HandleVal());
 		
-		new ActionFunctionAndPredicateHandler<JavacType, JavacMethod>().rebuildMethod(method, matchingTemplates.get(0), new JavacParameterValidator(), new JavacParameterSanitizer());
+		new ActionFunctionAndPredicateHandler<JavacType, JavacMethod>().rebuildMethod(method, template, new JavacParameterValidator(), new JavacParameterSanitizer());
 	}
 
 	private TypeSymbol resolveTemplates(final JavacNode node, final JCAnnotation annotation, final Object templatesDef) {
@@ -143,10 +164,12 @@ public class HandleActionFunctionAndPredicate {
 		} else {
 			final Type annotationType = CLASS.resolveMember(node, (JCExpression) annotation.annotationType);
 			if (annotationType == null) return null;
-			final List<MethodSymbol> enclosedMethods = enclosedMethodsOf(annotationType.asElement());
-			if (enclosedMethods.size() != 1) return null;
-			final Attribute.Class defaultValue = (Attribute.Class) enclosedMethods.get(0).getDefaultValue();
-			return defaultValue.getValue().asElement();
+			for (Symbol enclosedElement : annotationType.asElement().getEnclosedElements()) {
+				if (!(enclosedElement instanceof MethodSymbol) || !"value".equals(As.string(enclosedElement.name))) continue;
+				final Attribute.Class defaultValue = (Attribute.Class) ((MethodSymbol) enclosedElement).getDefaultValue();
+				return defaultValue.getValue().asElement();
+			}
+			return null;
 		}
 	}
 
@@ -172,15 +195,32 @@ public class HandleActionFunctionAndPredicate {
 		final MethodSymbol enclosedMethod = enclosedMethods.get(0);
 		final Type enclosedMethodType = enclosedMethod.type;
 		if (!matchesReturnType(enclosedMethodType, forcedReturnType)) return null;
-		final List<Type> methodTypeArguments = new ArrayList<Type>(enclosedMethodType.getParameterTypes());
-		if (forcedReturnType == null) methodTypeArguments.add(enclosedMethodType.getReturnType());
-		if (!templateTypeArguments.equals(methodTypeArguments)) return null;
+		final List<Type> enclosedParameterTypes = enclosedMethodType.getParameterTypes();
+		final List<JCVariableDecl> parameters = parametersOf(methodDecl);
+		if (parameters.size() != enclosedParameterTypes.size()) return null;
+		final List<Type> methodTypeArguments = new ArrayList<Type>();
+		final Set<Integer> primitiveParameters = new HashSet<Integer>();
+		for (int i = 0, iend = parameters.size(); i < iend; i++) {
+			final Type enclosedParameterType = enclosedParameterTypes.get(i);
+			if (enclosedParameterType.isPrimitive()) {
+				if (!enclosedParameterType.toString().equals(parameters.get(i).vartype.toString())) return null;
+				primitiveParameters.add(i);
+			} else {
+				methodTypeArguments.add(enclosedParameterType);
+			}
+		}
+		boolean primitiveReturn = false;
 		if (forcedReturnType == null) {
-			if ((numberOfParameters(methodDecl) + 1) != templateTypeArguments.size()) return null;
-		} else {
-			if (numberOfParameters(methodDecl) != templateTypeArguments.size()) return null;
+			final Type enclosedReturnType = enclosedMethodType.getReturnType();
+			if (enclosedReturnType.isPrimitive()) {
+				if (!enclosedReturnType.toString().equals(methodDecl.restype.toString())) return null;
+				primitiveReturn = true;
+			} else {
+				methodTypeArguments.add(enclosedReturnType);
+			}
 		}
-		return new TemplateData(As.string(template.getQualifiedName()), As.string(enclosedMethod.name), forcedReturnType);
+		if (!templateTypeArguments.equals(methodTypeArguments)) return null;
+		return new TemplateData(As.string(template.getQualifiedName()), As.string(enclosedMethod.name), forcedReturnType, primitiveParameters, primitiveReturn);
 	}
 
 	// for now only works for primitive return types
@@ -189,12 +229,12 @@ public class HandleActionFunctionAndPredicate {
 		return forcedReturnType.equals(methodType.getReturnType().toString());
 	}
 
-	private int numberOfParameters(final JCMethodDecl methodDecl) {
-		int numberOfParameters = 0;
+	private List<JCVariableDecl> parametersOf(final JCMethodDecl methodDecl) {
+		final List<JCVariableDecl> parameters = new ArrayList<JCVariableDecl>();
 		for (JCVariableDecl param : methodDecl.params) {
-			if (!As.string(param.name).startsWith("_")) numberOfParameters++;
+			if (!As.string(param.name).startsWith("_")) parameters.add(param);
 		}
-		return numberOfParameters;
+		return parameters;
 	}
 
 	private List<MethodSymbol> enclosedMethodsOf(final TypeSymbol type) {
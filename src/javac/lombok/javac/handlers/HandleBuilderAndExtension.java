@@ -68,6 +68,11 @@ public class HandleBuilderAndExtension {
 			}
 
 			new BuilderAndExtensionHandler<JavacType, JavacMethod, JavacField>().handleBuilder(type, annotation.getInstance());
+
+			for (JavacField field : type.fields()) {
+				final JavacNode capacityNode = field.getAnnotation(Builder.Capacity.class);
+				if (capacityNode != null) deleteAnnotationIfNeccessary(capacityNode, Builder.Capacity.class);
+			}
 		}
 	}
 
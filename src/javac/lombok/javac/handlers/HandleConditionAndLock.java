@@ -28,6 +28,7 @@ import lombok.*;
 import lombok.core.AnnotationValues;
 import lombok.core.handlers.ConditionAndLockHandler;
 import lombok.core.handlers.ConditionAndLockHandler.*;
+import lombok.core.util.As;
 import lombok.javac.JavacAnnotationHandler;
 import lombok.javac.JavacNode;
 import lombok.javac.handlers.ast.JavacMethod;
@@ -36,6 +37,7 @@ import lombok.javac.handlers.ast.JavacType;
 import org.mangosdk.spi.ProviderFor;
 
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
+import com.sun.tools.javac.tree.JCTree.JCFieldAccess;
 
 public class HandleConditionAndLock {
 
@@ -46,6 +48,10 @@ public class HandleConditionAndLock {
 			ReadLock ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast, ReadLock.class) //
 					.withLockMethod("readLock") //
+					.withOptimistic(ann.optimistic()) //
+					.withStripes(ann.stripedBy(), ann.stripes()) //
+					.withTimeout(new TimeoutData(ann.timeout(), ann.unit(), timeoutExceptionOf(annotation), ann.onTimeout())) //
+					.withMetrics(ann.metrics()) //
 					.handle(ann.value(), ReadLock.class, new JavacParameterValidator(), new JavacParameterSanitizer());
 		}
 	}
@@ -57,6 +63,9 @@ public class HandleConditionAndLock {
 			WriteLock ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast, WriteLock.class) //
 					.withLockMethod("writeLock") //
+					.withStripes(ann.stripedBy(), ann.stripes()) //
+					.withTimeout(new TimeoutData(ann.timeout(), ann.unit(), timeoutExceptionOf(annotation), ann.onTimeout())) //
+					.withMetrics(ann.metrics()) //
 					.handle(ann.value(), WriteLock.class, new JavacParameterValidator(), new JavacParameterSanitizer());
 		}
 	}
@@ -67,7 +76,7 @@ public class HandleConditionAndLock {
 		public void handle(final AnnotationValues<Signal> annotation, final JCAnnotation ast, final JavacNode annotationNode) {
 			Signal ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast, Signal.class) //
-					.withSignal(new SignalData(ann.value(), ann.pos())) //
+					.withSignal(new SignalData(ann.value(), ann.pos(), ann.all(), ann.ifWaiters())) //
 					.handle(ann.lockName(), Signal.class, new JavacParameterValidator(), new JavacParameterSanitizer());
 		}
 	}
@@ -78,7 +87,9 @@ public class HandleConditionAndLock {
 		public void handle(final AnnotationValues<Await> annotation, final JCAnnotation ast, final JavacNode annotationNode) {
 			Await ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast, Await.class) //
-					.withAwait(new AwaitData(ann.conditionName(), ann.conditionMethod(), ann.pos())) //
+					.withAwait(new AwaitData(ann.conditionName(), ann.conditionMethod(), ann.pos(), ann.interruptible())) //
+					.withTimeout(new TimeoutData(ann.timeout(), ann.unit(), timeoutExceptionOf(annotation), ann.onTimeout())) //
+					.withMetrics(ann.metrics()) //
 					.handle(ann.lockName(), Await.class, new JavacParameterValidator(), new JavacParameterSanitizer());
 		}
 	}
@@ -89,8 +100,8 @@ public class HandleConditionAndLock {
 		public void handle(final AnnotationValues<AwaitBeforeAndSignalAfter> annotation, final JCAnnotation ast, final JavacNode annotationNode) {
 			AwaitBeforeAndSignalAfter ann = annotation.getInstance();
 			prepareConditionAndLockHandler(annotationNode, ast, AwaitBeforeAndSignalAfter.class) //
-					.withAwait(new AwaitData(ann.awaitConditionName(), ann.awaitConditionMethod(), Position.BEFORE))
-					.withSignal(new SignalData(ann.signalConditionName(), Position.AFTER))
+					.withAwait(new AwaitData(ann.awaitConditionName(), ann.awaitConditionMethod(), Position.BEFORE, ann.interruptible()))
+					.withSignal(new SignalData(ann.signalConditionName(), Position.AFTER, ann.signalAll(), ann.signalIfWaiters()))
 					.handle(ann.lockName(), AwaitBeforeAndSignalAfter.class, new JavacParameterValidator(), new JavacParameterSanitizer());
 		}
 	}
@@ -100,4 +111,16 @@ public class HandleConditionAndLock {
 		deleteImport(node, Position.class);
 		return new ConditionAndLockHandler<JavacType, JavacMethod>(JavacType.typeOf(node, source), JavacMethod.methodOf(node, source), node);
 	}
+
+	/**
+	 * Reads {@code timeoutException} from the source instead of via {@link AnnotationValues#getInstance()}, which would need
+	 * the exception class to be loadable by the annotation processor.
+	 */
+	private static String timeoutExceptionOf(final AnnotationValues<?> annotation) {
+		final Object exception = annotation.getActualExpression("timeoutException");
+		if ((exception instanceof JCFieldAccess) && "class".equals(As.string(((JCFieldAccess) exception).name))) {
+			return ((JCFieldAccess) exception).selected.toString();
+		}
+		return IllegalStateException.class.getName();
+	}
 }
@@ -21,18 +21,34 @@
  */
 package lombok.javac.handlers;
 
+import static com.sun.tools.javac.code.Flags.ENUM;
 import static lombok.core.util.ErrorMessages.*;
 import static lombok.javac.handlers.JavacHandlerUtil.*;
 
+import java.util.*;
+
 import lombok.*;
 import lombok.core.AnnotationValues;
 import lombok.core.handlers.EnumIdHandler;
+import lombok.core.util.As;
 import lombok.javac.JavacAnnotationHandler;
 import lombok.javac.JavacNode;
 import lombok.javac.handlers.ast.JavacField;
+import lombok.javac.handlers.ast.JavacMethod;
 import lombok.javac.handlers.ast.JavacType;
 
+import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
+import com.sun.tools.javac.tree.JCTree.JCAssign;
+import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCExpressionStatement;
+import com.sun.tools.javac.tree.JCTree.JCFieldAccess;
+import com.sun.tools.javac.tree.JCTree.JCIdent;
+import com.sun.tools.javac.tree.JCTree.JCLiteral;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
+import com.sun.tools.javac.tree.JCTree.JCNewClass;
+import com.sun.tools.javac.tree.JCTree.JCStatement;
+import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
 
 import org.mangosdk.spi.ProviderFor;
 
@@ -51,6 +67,73 @@ public class HandleEnumId extends JavacAnnotationHandler<EnumId> {
 			annotationNode.addError(canBeUsedOnFieldOnly(EnumId.class));
 			return;
 		}
-		new EnumIdHandler<JavacType, JavacField>(type, field, annotationNode).handle();
+		new EnumIdHandler<JavacType, JavacField>(type, field, annotationNode) {
+
+			@Override
+			protected Map<String, String> stringIdsByConstantName(final JavacType type, final JavacField field) {
+				final Map<Integer, Integer> argumentIndexByArity = new HashMap<Integer, Integer>();
+				for (JavacMethod method : type.methods()) {
+					if (!method.isConstructor()) continue;
+					final int arity = method.get().params.size();
+					argumentIndexByArity.put(arity, argumentIndexByArity.containsKey(arity) ? -1 : argumentIndexOf(method.get(), field.name()));
+				}
+				final Map<String, String> stringIds = new LinkedHashMap<String, String>();
+				for (JCTree def : type.get().defs) {
+					if (!(def instanceof JCVariableDecl)) continue;
+					final JCVariableDecl enumConstant = (JCVariableDecl) def;
+					if ((enumConstant.mods.flags & ENUM) == 0) continue;
+					if (!(enumConstant.init instanceof JCNewClass)) return null;
+					final com.sun.tools.javac.util.List<JCExpression> args = ((JCNewClass) enumConstant.init).args;
+					final Integer argumentIndex = argumentIndexByArity.get(args.size());
+					if ((argumentIndex == null) || (argumentIndex < 0)) return null;
+					final JCExpression arg = args.get(argumentIndex);
+					if (!(arg instanceof JCLiteral) || !(((JCLiteral) arg).value instanceof String)) return null;
+					stringIds.put(As.string(enumConstant.name), (String) ((JCLiteral) arg).value);
+				}
+				return stringIds;
+			}
+		}.handle();
+	}
+
+	/**
+	 * Returns the index of the constructor argument that gets assigned to the given field, or {@code -1} if there is no
+	 * such argument or the field gets assigned more than once. To make sure the argument reaches the field unchanged, the
+	 * constructor may only consist of plain assignments of arguments to fields, anything else results in {@code -1} as well.
+	 */
+	private static int argumentIndexOf(final JCMethodDecl constructor, final String fieldName) {
+		int argumentIndex = -1;
+		for (JCStatement statement : constructor.body.stats) {
+			if (!(statement instanceof JCExpressionStatement)) return -1;
+			final JCExpression expression = ((JCExpressionStatement) statement).expr;
+			if (!(expression instanceof JCAssign)) return -1;
+			final JCAssign assign = (JCAssign) expression;
+			final String assignedFieldName = fieldNameOf(assign.lhs, constructor);
+			if ((assignedFieldName == null) || !(assign.rhs instanceof JCIdent)) return -1;
+			final int parameterIndex = parameterIndexOf(As.string(((JCIdent) assign.rhs).name), constructor);
+			if (parameterIndex < 0) return -1;
+			if (!fieldName.equals(assignedFieldName)) continue;
+			if (argumentIndex >= 0) return -1;
+			argumentIndex = parameterIndex;
+		}
+		return argumentIndex;
+	}
+
+	private static String fieldNameOf(final JCExpression expression, final JCMethodDecl constructor) {
+		if (expression instanceof JCFieldAccess) {
+			final JCFieldAccess fieldAccess = (JCFieldAccess) expression;
+			return "this".equals(fieldAccess.selected.toString()) ? As.string(fieldAccess.name) : null;
+		}
+		if (expression instanceof JCIdent) {
+			final String name = As.string(((JCIdent) expression).name);
+			return parameterIndexOf(name, constructor) < 0 ? name : null;
+		}
+		return null;
+	}
+
+	private static int parameterIndexOf(final String name, final JCMethodDecl constructor) {
+		for (int i = 0, iend = constructor.params.size(); i < iend; i++) {
+			if (name.equals(As.string(constructor.params.get(i).name))) return i;
+		}
+		return -1;
 	}
 }
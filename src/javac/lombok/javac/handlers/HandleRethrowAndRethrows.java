@@ -48,7 +48,7 @@ public class HandleRethrowAndRethrows {
 		public void handle(final AnnotationValues<Rethrow> annotation, final JCAnnotation ast, final JavacNode annotationNode) {
 			Rethrow ann = annotation.getInstance();
 			prepareRethrowAndRethrowsHandler(annotationNode, ast, Rethrow.class) //
-					.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message())) //
+					.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message(), ann.stackless(), ann.lazyMessage())) //
 					.handle(Rethrow.class, new JavacParameterValidator(), new JavacParameterSanitizer());
 		}
 	}
@@ -61,7 +61,7 @@ public class HandleRethrowAndRethrows {
 			for (Object rethrow : annotation.getActualExpressions("value")) {
 				JavacNode rethrowNode = new JavacNode(annotationNode.getAst(), (JCTree) rethrow, new ArrayList<JavacNode>(), Kind.ANNOTATION);
 				Rethrow ann = createAnnotation(Rethrow.class, rethrowNode).getInstance();
-				handler.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message()));
+				handler.withRethrow(new RethrowData(classNames(ann.value()), ann.as(), ann.message(), ann.stackless(), ann.lazyMessage()));
 			}
 			handler.handle(Rethrows.class, new JavacParameterValidator(), new JavacParameterSanitizer());
 		}
@@ -44,8 +44,12 @@ public class HandleSwingInvoke {
 		public void handle(final AnnotationValues<SwingInvokeLater> annotation, final JCAnnotation source, final JavacNode annotationNode) {
 			if (inNetbeansEditor(annotationNode)) return;
 			deleteAnnotationIfNeccessary(annotationNode, SwingInvokeLater.class);
-			new SwingInvokeHandler<JavacMethod>(JavacMethod.methodOf(annotationNode, source), annotationNode) //
-					.handle("invokeLater", SwingInvokeLater.class, new JavacParameterValidator(), new JavacParameterSanitizer());
+			final SwingInvokeHandler<JavacMethod> handler = new SwingInvokeHandler<JavacMethod>(JavacMethod.methodOf(annotationNode, source), annotationNode);
+			if (annotation.getInstance().coalesce()) {
+				handler.handleCoalesced(new JavacParameterValidator(), new JavacParameterSanitizer());
+			} else {
+				handler.handle("invokeLater", SwingInvokeLater.class, new JavacParameterValidator(), new JavacParameterSanitizer());
+			}
 		}
 	}
 
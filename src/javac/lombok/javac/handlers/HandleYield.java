@@ -75,6 +75,7 @@ import com.sun.tools.javac.tree.JCTree.JCSwitch;
 import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCMethodDecl;
 import com.sun.tools.javac.tree.JCTree.JCMethodInvocation;
 import com.sun.tools.javac.tree.JCTree.JCTypeApply;
 import com.sun.tools.javac.tree.JCTree.JCWhileLoop;
@@ -83,10 +84,26 @@ import com.sun.tools.javac.util.Name;
 @ProviderFor(JavacASTVisitor.class)
 public class HandleYield extends JavacASTAdapter {
 	private final Set<String> methodNames = new HashSet<String>();
+	private final Set<JCMethodDecl> yieldingMethods = new HashSet<JCMethodDecl>();
 
 	@Override
 	public void visitCompilationUnit(final JavacNode top, final JCCompilationUnit unit) {
 		methodNames.clear();
+		yieldingMethods.clear();
+	}
+
+	/**
+	 * {@code @AsyncYield} is only looked at while handling a {@code yield()}, so on a method without one it would be
+	 * silently ignored.
+	 */
+	@Override
+	public void endVisitMethod(final JavacNode methodNode, final JCMethodDecl method) {
+		if (yieldingMethods.remove(method)) return;
+		final JavacNode asyncYieldNode = JavacMethod.methodOf(methodNode, method).getAnnotation(AsyncYield.class);
+		if (asyncYieldNode != null) {
+			asyncYieldNode.addError("@AsyncYield can only be used on methods that contain yield() or yieldAll().");
+			deleteAnnotationIfNeccessary(asyncYieldNode, AsyncYield.class);
+		}
 	}
 
 	@Override
@@ -94,12 +111,13 @@ public class HandleYield extends JavacASTAdapter {
 		if (statement instanceof JCMethodInvocation) {
 			JCMethodInvocation methodCall = (JCMethodInvocation) statement;
 			String methodName = methodCall.meth.toString();
-			if (isMethodCallValid(statementNode, methodName, Yield.class, "yield")) {
+			if (isMethodCallValid(statementNode, methodName, Yield.class, "yield") || isMethodCallValid(statementNode, methodName, Yield.class, "yieldAll")) {
 				final JavacMethod method = JavacMethod.methodOf(statementNode, statement);
 				if ((method == null) || method.isConstructor()) {
 					statementNode.addError(canBeUsedInBodyOfMethodsOnly("yield"));
 					return;
 				}
+				yieldingMethods.add(method.get());
 				if (inNetbeansEditor(statementNode)) {
 					if (!(method.get().body.stats.last() instanceof JCReturn)) {
 						method.get().body.stats = method.get().body.stats.append(method.editor().build(Return(Null()), JCStatement.class));
@@ -109,6 +127,10 @@ public class HandleYield extends JavacASTAdapter {
 				if (new YieldHandler<JavacMethod, JCTree>().handle(method, new JavacYieldDataCollector())) {
 					methodNames.add(methodName);
 				}
+				final JavacNode asyncYieldNode = method.getAnnotation(AsyncYield.class);
+				if (asyncYieldNode != null) {
+					deleteAnnotationIfNeccessary(asyncYieldNode, AsyncYield.class);
+				}
 			}
 		}
 	}
@@ -117,6 +139,7 @@ public class HandleYield extends JavacASTAdapter {
 	public void endVisitCompilationUnit(final JavacNode top, final JCCompilationUnit unit) {
 		for (String methodName : methodNames) {
 			deleteMethodCallImports(top, methodName, Yield.class, "yield");
+			deleteMethodCallImports(top, methodName, Yield.class, "yieldAll");
 		}
 	}
 
@@ -198,13 +221,17 @@ public class HandleYield extends JavacASTAdapter {
 		private JCExpression getYieldExpression(final JCExpression expr) {
 			if (expr instanceof JCMethodInvocation) {
 				JCMethodInvocation methodCall = (JCMethodInvocation) expr;
-				if (methodCall.meth.toString().endsWith("yield") && (methodCall.args.length() == 1)) {
+				if ((methodCall.meth.toString().endsWith("yield") || isYieldAll(expr)) && (methodCall.args.length() == 1)) {
 					return methodCall.args.head;
 				}
 			}
 			return null;
 		}
 
+		private boolean isYieldAll(final JCExpression expr) {
+			return (expr instanceof JCMethodInvocation) && ((JCMethodInvocation) expr).meth.toString().endsWith("yieldAll");
+		}
+
 		private boolean isTrueLiteral(final JCExpression expression) {
 			if (expression instanceof JCLiteral) {
 				return "true".equals(expression.toString());
@@ -671,11 +698,13 @@ public class HandleYield extends JavacASTAdapter {
 			public void visitExec(final JCExpressionStatement tree) {
 				final JCExpression expression = getYieldExpression(tree.expr);
 				if (expression != null) {
+					final boolean all = isYieldAll(tree.expr);
+					delegating |= all;
 					current = new Scope<JCTree>(current, tree) {
 						@Override
 						public void refactor() {
 							Case label = getBreakLabel(this);
-							addStatement(Assign(Name(nextName), Expr(expression)));
+							addStatement(yieldStatement(Expr(expression), all));
 							addStatement(setState(literal(label)));
 							addStatement(Return(True()));
 							addLabel(label);
@@ -26,7 +26,9 @@ import static lombok.javac.handlers.Javac.*;
 import static lombok.javac.handlers.JavacHandlerUtil.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.sun.tools.javac.code.Flags;
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
@@ -40,6 +42,11 @@ import lombok.javac.handlers.ast.JavacMethod;
 public class JavacParameterSanitizer implements IParameterSanitizer<JavacMethod> {
 	@Override
 	public List<lombok.ast.Statement<?>> sanitizeParameterOf(final JavacMethod method) {
+		return sanitizeParameterOf(method, new HashMap<String, String>());
+	}
+
+	@Override
+	public List<lombok.ast.Statement<?>> sanitizeParameterOf(final JavacMethod method, final Map<String, String> argumentNames) {
 		deleteImport(method.node(), Sanitize.class);
 		for (SanitizerStrategy sanitizerStrategy : SanitizerStrategy.IN_ORDER) {
 			deleteImport(method.node(), sanitizerStrategy.getType());
@@ -48,13 +55,15 @@ public class JavacParameterSanitizer implements IParameterSanitizer<JavacMethod>
 		for (JCVariableDecl argument : method.get().params) {
 			final String argumentName = argument.name.toString();
 			final String newArgumentName = camelCase("sanitized", argumentName);
+			argumentNames.put(argumentName, argumentName);
 			for (SanitizerStrategy sanitizerStrategy : SanitizerStrategy.IN_ORDER) {
 				final JCAnnotation ann = getAnnotation(sanitizerStrategy.getType(), argument.mods);
 				if (ann == null) continue;
 				final JavacNode annotationNode = method.node().getNodeFor(ann);
 				final java.lang.annotation.Annotation annotation = createAnnotation(sanitizerStrategy.getType(), annotationNode).getInstance();
-				sanitizeStatements.add(sanitizerStrategy.getStatementFor(argument.vartype, argumentName, newArgumentName, annotation));
+				sanitizeStatements.addAll(sanitizerStrategy.getStatementsFor(argument.vartype, argumentName, newArgumentName, annotation));
 				method.editor().replaceVariableName(argumentName, newArgumentName);
+				argumentNames.put(argumentName, newArgumentName);
 				argument.mods.flags |= Flags.FINAL;
 				argument.mods.annotations = remove(argument.mods.annotations, ann);
 				break;
@@ -34,11 +34,13 @@ import lombok.Validate;
 import lombok.core.handlers.IParameterValidator;
 import lombok.javac.JavacNode;
 import lombok.javac.handlers.ast.JavacMethod;
+import lombok.javac.handlers.ast.JavacType;
 
 public class JavacParameterValidator implements IParameterValidator<JavacMethod> {
 	@Override
 	public List<lombok.ast.Statement<?>> validateParameterOf(final JavacMethod method) {
 		deleteImport(method.node(), Validate.class);
+		deleteImport(method.node(), Validate.Elidable.class);
 		for (ValidationStrategy validationStrategy : ValidationStrategy.IN_ORDER) {
 			deleteImport(method.node(), validationStrategy.getType());
 		}
@@ -61,6 +63,15 @@ public class JavacParameterValidator implements IParameterValidator<JavacMethod>
 		for (lombok.ast.Statement<?> validateStatement : validateStatements) {
 			validateStatement.posHint(method.get());
 		}
-		return validateStatements;
+		final JavacType type = method.surroundingType();
+		final JavacNode elidableNode = type.getAnnotation(Validate.Elidable.class);
+		final List<lombok.ast.Statement<?>> guardedStatements = Elision.guard(method, validateStatements);
+		if (guardedStatements != validateStatements) {
+			for (lombok.ast.Statement<?> guardedStatement : guardedStatements) {
+				guardedStatement.posHint(method.get());
+			}
+			if (elidableNode != null) deleteAnnotationIfNeccessary(elidableNode, Validate.Elidable.class);
+		}
+		return guardedStatements;
 	}
 }
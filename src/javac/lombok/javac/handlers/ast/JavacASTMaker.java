@@ -359,7 +359,9 @@ public final class JavacASTMaker implements lombok.ast.ASTVisitor<JCTree, Void>
 	public JCTree visitConstructorDecl(final lombok.ast.ConstructorDecl node, final Void p) {
 		final JCModifiers mods = setGeneratedBy(M(node).Modifiers(flagsFor(node.getModifiers()), build(node.getAnnotations(), JCAnnotation.class)), source);
 		List<JCStatement> statements = build(node.getStatements(), JCStatement.class);
-		if (node.implicitSuper()) {
+		if (!node.getSuperArguments().isEmpty()) {
+			statements = statements.prepend(build(Call("super").withArguments(node.getSuperArguments()), JCStatement.class));
+		} else if (node.implicitSuper()) {
 			statements = statements.prepend(build(Call("super"), JCStatement.class));
 		}
 		final List<JCTypeParameter> typarams = build(node.getTypeParameters());
@@ -40,10 +40,14 @@ import lombok.javac.Javac;
 
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.JCTree.JCAnnotation;
+import com.sun.tools.javac.tree.JCTree.JCArrayTypeTree;
 import com.sun.tools.javac.tree.JCTree.JCAssign;
 import com.sun.tools.javac.tree.JCTree.JCCompilationUnit;
 import com.sun.tools.javac.tree.JCTree.JCExpression;
+import com.sun.tools.javac.tree.JCTree.JCLiteral;
+import com.sun.tools.javac.tree.JCTree.JCNewClass;
 import com.sun.tools.javac.tree.JCTree.JCTypeApply;
+import com.sun.tools.javac.tree.JCTree.JCUnary;
 import com.sun.tools.javac.tree.JCTree.JCVariableDecl;
 
 public final class JavacField implements lombok.ast.IField<JavacType, JavacNode, JCTree, JCVariableDecl> {
@@ -93,6 +97,10 @@ public final class JavacField implements lombok.ast.IField<JavacType, JavacNode,
 		return Javac.isPrimitive(get().vartype);
 	}
 
+	public boolean isArray() {
+		return get().vartype instanceof JCArrayTypeTree;
+	}
+
 	public boolean hasJavaDoc() {
 		final JCCompilationUnit compilationUnit = (JCCompilationUnit) fieldNode.top().get();
 		return compilationUnit.docComments.get(get()) != null;
@@ -166,6 +174,20 @@ public final class JavacField implements lombok.ast.IField<JavacType, JavacNode,
 		return get().init == null ? null : Expr(get().init);
 	}
 
+	public String instantiatedType() {
+		if (!(get().init instanceof JCNewClass)) return null;
+		final JCNewClass newClass = (JCNewClass) get().init;
+		if (!newClass.args.isEmpty() || (newClass.def != null)) return null;
+		if (newClass.clazz instanceof JCTypeApply) return ((JCTypeApply) newClass.clazz).clazz.toString();
+		return newClass.clazz.toString();
+	}
+
+	public boolean isInitializedWithLiteral() {
+		JCExpression init = get().init;
+		if (init instanceof JCUnary) init = ((JCUnary) init).arg;
+		return init instanceof JCLiteral;
+	}
+
 	public List<lombok.ast.TypeRef> typeArguments() {
 		final List<lombok.ast.TypeRef> typeArguments = new ArrayList<lombok.ast.TypeRef>();
 		final JCExpression type = get().vartype;
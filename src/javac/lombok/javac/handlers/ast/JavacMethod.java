@@ -248,6 +248,14 @@ public final class JavacMethod implements lombok.ast.IMethod<JavacType, JavacNod
 		return thrownExceptions;
 	}
 
+	public boolean throwsException(final String typeName) {
+		for (JCExpression thrownException : get().thrown) {
+			final String type = thrownException.toString();
+			if (type.equals(typeName) || type.endsWith("." + typeName)) return true;
+		}
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		return get().toString();
@@ -83,6 +83,14 @@ public final class JavacType implements lombok.ast.IType<JavacMethod, JavacField
 		return !isInterface() && !isEnum() && !isAnnotation();
 	}
 
+	public boolean isInner() {
+		final JavacNode parent = node().directUp();
+		if ((parent == null) || (parent.getKind() == Kind.COMPILATION_UNIT)) return false;
+		if (!isClass()) return false;
+		if ((parent.getKind() == Kind.TYPE) && !JavacType.typeOf(parent, source).isClass()) return false;
+		return (get().mods.flags & STATIC) == 0;
+	}
+
 	public boolean hasSuperClass() {
 		return get().getExtendsClause() != null;
 	}
@@ -215,6 +223,13 @@ public final class JavacType implements lombok.ast.IType<JavacMethod, JavacField
 		return annotations;
 	}
 
+	public boolean hasType(final String typeName) {
+		for (JavacNode child : node().down()) {
+			if ((child.getKind() == Kind.TYPE) && child.getName().equals(typeName)) return true;
+		}
+		return false;
+	}
+
 	public boolean hasField(final String fieldName) {
 		return (fieldExists(fieldName, typeNode) != MemberExistsResult.NOT_EXISTS);
 	}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2012 Philipp Eichhorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package lombok;
+
+import static org.junit.Assert.*;
+
+import lombok.Functions.Function1;
+import lombok.Functions.IntToIntFunction1;
+
+import org.junit.Test;
+
+public class FunctionsTest {
+
+	@Test
+	public void andThenAppliesFirstThenSecond() {
+		assertEquals("#4", Functions.andThen(LENGTH, DESCRIBE).apply("four"));
+	}
+
+	@Test
+	public void composeAppliesBeforeThenFunction() {
+		assertEquals("#4", Functions.compose(DESCRIBE, LENGTH).apply("four"));
+	}
+
+	@Test
+	public void andThenReportsTypesOfOuterStages() {
+		final Function1<String, String> chain = Functions.andThen(Functions.andThen(LENGTH, DESCRIBE), TRIM);
+		assertEquals(String.class, chain.getParameterType1());
+		assertEquals(String.class, chain.getReturnType());
+		final Function1<String, String> prefix = Functions.andThen(TRIM, TRIM);
+		assertEquals(Integer.class, Functions.andThen(prefix, LENGTH).getReturnType());
+	}
+
+	@Test
+	public void pipelineAppliesAllStagesInOrder() {
+		final Function1<String, String> pipeline = Functions.pipeline(TRIM).then(LENGTH).then(DESCRIBE).build();
+		assertEquals("#4", pipeline.apply(" four "));
+		assertEquals(String.class, pipeline.getParameterType1());
+		assertEquals(String.class, pipeline.getReturnType());
+	}
+
+	@Test
+	public void primitiveAndThenAppliesFirstThenSecond() {
+		assertEquals(9, Functions.andThen(INCREMENT, SQUARE).apply(2));
+		assertEquals(5, Functions.compose(INCREMENT, SQUARE).apply(2));
+	}
+
+	private static final Function1<String, Integer> LENGTH = new Function1<String, Integer>() {
+		public Integer apply(final String s) {
+			return s.length();
+		}
+	};
+
+	private static final Function1<Integer, String> DESCRIBE = new Function1<Integer, String>() {
+		public String apply(final Integer i) {
+			return "#" + i;
+		}
+	};
+
+	private static final Function1<String, String> TRIM = new Function1<String, String>() {
+		public String apply(final String s) {
+			return s.trim();
+		}
+	};
+
+	private static final IntToIntFunction1 INCREMENT = new IntToIntFunction1() {
+		public int apply(final int i) {
+			return i + 1;
+		}
+	};
+
+	private static final IntToIntFunction1 SQUARE = new IntToIntFunction1() {
+		public int apply(final int i) {
+			return i * i;
+		}
+	};
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2012 Philipp Eichhorn
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package lombok;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Predicates.IntPredicate1;
+import lombok.Predicates.Predicate1;
+
+import org.junit.Test;
+
+public class PredicatesTest {
+
+	@Test
+	public void andIsSatisfiedIfBothAre() {
+		assertTrue(Predicates.and(NOT_EMPTY, SHORT).evaluate("abc"));
+		assertFalse(Predicates.and(NOT_EMPTY, SHORT).evaluate(""));
+		assertFalse(Predicates.and(NOT_EMPTY, SHORT).evaluate("abcdef"));
+	}
+
+	@Test
+	public void orIsSatisfiedIfEitherIs() {
+		assertTrue(Predicates.or(NOT_EMPTY, SHORT).evaluate(""));
+		assertTrue(Predicates.or(NOT_EMPTY, SHORT).evaluate("abcdef"));
+		assertFalse(Predicates.or(Predicates.negate(NOT_EMPTY), Predicates.negate(SHORT)).evaluate("abc"));
+	}
+
+	@Test
+	public void andStopsAtFirstUnsatisfiedOperand() {
+		final List<String> evaluated = new ArrayList<String>();
+		final Predicate1<String> and = Predicates.and(Predicates.and(recording("first", false, evaluated), recording("second", true, evaluated)),
+				recording("third", true, evaluated));
+		assertFalse(and.evaluate("x"));
+		assertEquals(1, evaluated.size());
+	}
+
+	@Test
+	public void orStopsAtFirstSatisfiedOperand() {
+		final List<String> evaluated = new ArrayList<String>();
+		final Predicate1<String> or = Predicates.or(recording("first", false, evaluated), Predicates.or(recording("second", true, evaluated),
+				recording("third", true, evaluated)));
+		assertTrue(or.evaluate("x"));
+		assertEquals(2, evaluated.size());
+	}
+
+	@Test
+	public void junctionReportsTypesOfOperands() {
+		final Predicate1<String> and = Predicates.and(NOT_NULL, NOT_EMPTY);
+		assertEquals(String.class, and.getParameterType1());
+		assertEquals(Boolean.class, and.getReturnType());
+		assertEquals(String.class, Predicates.negate(NOT_EMPTY).getParameterType1());
+		assertEquals(Boolean.class, NOT_EMPTY.getReturnType());
+	}
+
+	@Test
+	public void primitiveJunctionsShortCircuit() {
+		assertTrue(Predicates.and(POSITIVE, EVEN).evaluate(4));
+		assertFalse(Predicates.and(POSITIVE, EVEN).evaluate(3));
+		assertTrue(Predicates.or(Predicates.negate(POSITIVE), EVEN).evaluate(-3));
+	}
+
+	private static Predicate1<String> recording(final String name, final boolean result, final List<String> evaluated) {
+		return new Predicate1<String>() {
+			public boolean evaluate(final String s) {
+				evaluated.add(name);
+				return result;
+			}
+		};
+	}
+
+	private static final Predicate1<Object> NOT_NULL = new Predicate1<Object>() {
+		public boolean evaluate(final Object o) {
+			return o != null;
+		}
+	};
+
+	private static final Predicate1<String> NOT_EMPTY = new Predicate1<String>() {
+		public boolean evaluate(final String s) {
+			return !s.isEmpty();
+		}
+	};
+
+	private static final Predicate1<String> SHORT = new Predicate1<String>() {
+		public boolean evaluate(final String s) {
+			return s.length() < 5;
+		}
+	};
+
+	private static final IntPredicate1 POSITIVE = new IntPredicate1() {
+		public boolean evaluate(final int i) {
+			return i > 0;
+		}
+	};
+
+	private static final IntPredicate1 EVEN = new IntPredicate1() {
+		public boolean evaluate(final int i) {
+			return (i % 2) == 0;
+		}
+	};
+}
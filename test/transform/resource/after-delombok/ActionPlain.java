@@ -1,13 +1,26 @@
 import lombok.Actions.Action1;
 
 class ActionPlain {
+	private static final lombok.Actions.Action0 $testAction0 = new lombok.Actions.Action0(){
+		public void apply() {
+			System.out.println("Action0");
+		}
+	};
+	private static final lombok.Actions.Action1<java.lang.Float> $sqrt = new lombok.Actions.Action1<java.lang.Float>(){
+
+		public void apply(final java.lang.Float f) {
+			Math.sqrt(f);
+		}
+	};
+	private static final lombok.Actions.Action2<float[], double[]> $testArrays = new lombok.Actions.Action2<float[], double[]>(){
+
+		public void apply(final float[] a, final double[] b) {
+			return;
+		}
+	};
 	@java.lang.SuppressWarnings("all")
 	public static lombok.Actions.Action0 testAction0() {
-		return new lombok.Actions.Action0(){
-			public void apply() {
-				System.out.println("Action0");
-			}
-		};
+		return $testAction0;
 	}
 
 	@java.lang.SuppressWarnings("all")
@@ -22,12 +35,7 @@ class ActionPlain {
 
 	@java.lang.SuppressWarnings("all")
 	public static lombok.Actions.Action1<java.lang.Float> sqrt() {
-		return new lombok.Actions.Action1<java.lang.Float>(){
-
-			public void apply(final java.lang.Float f) {
-				Math.sqrt(f);
-			}
-		};
+		return $sqrt;
 	}
 
 	@java.lang.SuppressWarnings("all")
@@ -45,11 +53,6 @@ class ActionPlain {
 
 	@java.lang.SuppressWarnings("all")
 	public static lombok.Actions.Action2<float[], double[]> testArrays() {
-		return new lombok.Actions.Action2<float[], double[]>(){
-
-			public void apply(final float[] a, final double[] b) {
-				return;
-			}
-		};
+		return $testArrays;
 	}
 }
\ No newline at end of file
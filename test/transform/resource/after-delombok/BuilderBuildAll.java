@@ -0,0 +1,74 @@
+class BuilderBuildAll {
+	private final String name;
+	private int count = $Builder.$countDefault();
+	
+	@java.lang.SuppressWarnings("all")
+	private BuilderBuildAll(final $Builder builder) {
+		this.name = builder.name;
+		this.count = builder.count;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static NameDef builderBuildAll() {
+		return new $Builder();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static BuilderBuildAll[] buildAll(final String[] name, final int[] count) {
+		return buildAll(name, count, new BuilderBuildAll[name.length]);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static BuilderBuildAll[] buildAll(final String[] name, final int[] count, final BuilderBuildAll[] $result) {
+		final $Builder $builder = new $Builder();
+		int $i = 0;
+		while ($i < $result.length) {
+			$builder.name = name[$i];
+			$builder.count = count[$i];
+			$result[$i] = new BuilderBuildAll($builder);
+			$i = $i + 1;
+		}
+		return $result;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static interface NameDef {
+		
+		OptionalDef name(final String name);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static interface OptionalDef {
+		
+		OptionalDef count(final int count);
+		
+		BuilderBuildAll build();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static class $Builder implements NameDef, OptionalDef {
+		private String name;
+		private int count = $countDefault();
+		
+		static int $countDefault() {
+			return 1;
+		}
+		
+		public OptionalDef name(final String name) {
+			this.name = name;
+			return this;
+		}
+		
+		public OptionalDef count(final int count) {
+			this.count = count;
+			return this;
+		}
+		
+		public BuilderBuildAll build() {
+			return new BuilderBuildAll(this);
+		}
+		
+		private $Builder() {
+		}
+	}
+}
\ No newline at end of file
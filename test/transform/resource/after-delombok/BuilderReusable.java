@@ -0,0 +1,102 @@
+import java.util.List;
+
+class BuilderReusable {
+	private static final java.lang.ThreadLocal<$Builder> $reusableBuilder = new java.lang.ThreadLocal<$Builder>(){
+		
+		protected $Builder initialValue() {
+			return new $Builder();
+		}
+	};
+	private final String name;
+	private int count = $Builder.$countDefault();
+	private final List<String> tags = $Builder.$tagsDefault();
+	
+	@java.lang.SuppressWarnings("all")
+	private BuilderReusable(final $Builder builder) {
+		this.name = builder.name;
+		this.count = builder.count;
+		this.tags.addAll(builder.tags);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static NameDef builderReusable() {
+		return new $Builder();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static NameDef reusableBuilderReusable() {
+		return $reusableBuilder.get().reset();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static interface NameDef {
+		
+		OptionalDef name(final String name);
+		
+		NameDef reset();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static interface OptionalDef {
+		
+		OptionalDef count(final int count);
+		
+		OptionalDef tag(final String arg0);
+		
+		OptionalDef tags(final java.util.Collection<? extends String> arg0);
+		
+		BuilderReusable build();
+		
+		NameDef reset();
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static class $Builder implements NameDef, OptionalDef {
+		private String name;
+		private static final int $countDefaultValue = $countDefault();
+		private int count = $countDefaultValue;
+		private List<String> tags = $tagsDefault();
+		
+		static int $countDefault() {
+			return 1;
+		}
+		
+		static List<String> $tagsDefault() {
+			return new java.util.ArrayList<String>();
+		}
+		
+		public OptionalDef name(final String name) {
+			this.name = name;
+			return this;
+		}
+		
+		public OptionalDef count(final int count) {
+			this.count = count;
+			return this;
+		}
+		
+		public OptionalDef tag(final String arg0) {
+			this.tags.add(arg0);
+			return this;
+		}
+		
+		public OptionalDef tags(final java.util.Collection<? extends String> arg0) {
+			this.tags.addAll(arg0);
+			return this;
+		}
+		
+		public BuilderReusable build() {
+			return new BuilderReusable(this);
+		}
+		
+		public NameDef reset() {
+			this.name = null;
+			this.count = $countDefaultValue;
+			this.tags.clear();
+			return this;
+		}
+		
+		private $Builder() {
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+class ConditionInvalidOptions {
+	private final java.util.concurrent.locks.Lock lock = new java.util.concurrent.locks.ReentrantLock();
+	private volatile boolean paused;
+	
+	void unpause() {
+		paused = false;
+	}
+	
+	void pause() {
+	}
+	
+	private boolean isPaused() {
+		return paused;
+	}
+}
@@ -0,0 +1,32 @@
+class ConditionSignalAll {
+	private final java.util.concurrent.locks.Lock $canResumeLock = new java.util.concurrent.locks.ReentrantLock();
+	private final java.util.concurrent.locks.Condition canResume = $canResumeLock.newCondition();
+	private volatile boolean paused;
+	
+	@java.lang.SuppressWarnings("all")
+	void unpause() {
+		this.$canResumeLock.lock();
+		try {
+			paused = false;
+			if (((java.util.concurrent.locks.ReentrantLock)this.$canResumeLock).hasWaiters(this.canResume)) {
+				this.canResume.signalAll();
+			}
+		} finally {
+			this.$canResumeLock.unlock();
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	void pause() throws InterruptedException {
+		this.$canResumeLock.lockInterruptibly();
+		try {
+			while (this.isPaused()) this.canResume.await();
+		} finally {
+			this.$canResumeLock.unlock();
+		}
+	}
+	
+	private boolean isPaused() {
+		return paused;
+	}
+}
\ No newline at end of file
@@ -7,36 +7,30 @@ class DoPrivilegedPlain {
 	
 	@java.lang.SuppressWarnings("all")
 	int test1() {
-		try {
-			return java.security.AccessController.doPrivileged(new java.security.PrivilegedExceptionAction<java.lang.Integer>(){
+		if (java.lang.System.getSecurityManager() == null) {
+			return $test1();
+		} else {
+			return java.security.AccessController.doPrivileged(new java.security.PrivilegedAction<java.lang.Integer>(){
 				
 				public java.lang.Integer run() {
-					System.out.println("Test");
-					return 0;
+					return $test1();
 				}
 			});
-		} catch (final java.security.PrivilegedActionException $ex) {
-			final java.lang.Throwable $cause = $ex.getCause();
-			throw new java.lang.RuntimeException($cause);
 		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	void test2() {
-		try {
-			java.security.AccessController.doPrivileged(new java.security.PrivilegedExceptionAction<java.lang.Void>(){
+		if (java.lang.System.getSecurityManager() == null) {
+			$test2();
+		} else {
+			java.security.AccessController.doPrivileged(new java.security.PrivilegedAction<java.lang.Void>(){
 				
 				public java.lang.Void run() {
-					if (b) {
-						return null;
-					}
-					System.out.println("Test");
+					$test2();
 					return null;
 				}
 			});
-		} catch (final java.security.PrivilegedActionException $ex) {
-			final java.lang.Throwable $cause = $ex.getCause();
-			throw new java.lang.RuntimeException($cause);
 		}
 	}
 	
@@ -57,48 +51,80 @@ class DoPrivilegedPlain {
 			throw new java.lang.IllegalArgumentException(java.lang.String.format("The validated object \'%s\' (argument #%s) is empty", "filename", 1));
 		}
 		final String sanitizedFilename = cleanFilename(filename);
-		try {
-			return java.security.AccessController.doPrivileged(new java.security.PrivilegedExceptionAction<java.lang.Integer>(){
-				
-				public java.lang.Integer run() throws FileNotFoundException {
-					try {
-						FileInputStream fis = new FileInputStream(sanitizedFilename);
-						int i = fis.read();
-						fis.close();
-						return i;
-					} catch (final java.lang.Throwable $ex) {
-						throw lombok.Lombok.sneakyThrow($ex);
+		if (java.lang.System.getSecurityManager() == null) {
+			return $test3(sanitizedFilename);
+		} else {
+			try {
+				return java.security.AccessController.doPrivileged(new java.security.PrivilegedExceptionAction<java.lang.Integer>(){
+					
+					public java.lang.Integer run() throws FileNotFoundException {
+						return $test3(sanitizedFilename);
 					}
-				}
-			});
-		} catch (final java.security.PrivilegedActionException $ex) {
-			final java.lang.Throwable $cause = $ex.getCause();
-			if ($cause instanceof FileNotFoundException) throw (FileNotFoundException)$cause;
-			throw new java.lang.RuntimeException($cause);
+				});
+			} catch (final java.security.PrivilegedActionException $ex) {
+				final java.lang.Throwable $cause = $ex.getCause();
+				if ($cause instanceof FileNotFoundException) throw (FileNotFoundException)$cause;
+				throw new java.lang.RuntimeException($cause);
+			}
 		}
 	}
 	
 	@java.lang.SuppressWarnings("all")
 	int test4(final String filename) throws FileNotFoundException {
 		final String sanitizedFilename = cleanFilename(filename);
-		try {
-			return java.security.AccessController.doPrivileged(new java.security.PrivilegedExceptionAction<java.lang.Integer>(){
-				
-				public java.lang.Integer run() throws FileNotFoundException {
-					try {
-						FileInputStream fis = new FileInputStream(sanitizedFilename);
-						int i = fis.read();
-						fis.close();
-						return i;
-					} catch (final java.lang.Throwable $ex) {
-						throw lombok.Lombok.sneakyThrow($ex);
+		if (java.lang.System.getSecurityManager() == null) {
+			return $test4(sanitizedFilename);
+		} else {
+			try {
+				return java.security.AccessController.doPrivileged(new java.security.PrivilegedExceptionAction<java.lang.Integer>(){
+					
+					public java.lang.Integer run() throws FileNotFoundException {
+						return $test4(sanitizedFilename);
 					}
-				}
-			});
-		} catch (final java.security.PrivilegedActionException $ex) {
-			final java.lang.Throwable $cause = $ex.getCause();
-			if ($cause instanceof FileNotFoundException) throw (FileNotFoundException)$cause;
-			throw new java.lang.RuntimeException($cause);
+				});
+			} catch (final java.security.PrivilegedActionException $ex) {
+				final java.lang.Throwable $cause = $ex.getCause();
+				if ($cause instanceof FileNotFoundException) throw (FileNotFoundException)$cause;
+				throw new java.lang.RuntimeException($cause);
+			}
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private int $test1() {
+		System.out.println("Test");
+		return 0;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $test2() {
+		if (b) {
+			return;
+		}
+		System.out.println("Test");
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private int $test3(final String sanitizedFilename) throws FileNotFoundException {
+		try {
+			FileInputStream fis = new FileInputStream(sanitizedFilename);
+			int i = fis.read();
+			fis.close();
+			return i;
+		} catch (final java.lang.Throwable $ex) {
+			throw lombok.Lombok.sneakyThrow($ex);
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private int $test4(final String sanitizedFilename) throws FileNotFoundException {
+		try {
+			FileInputStream fis = new FileInputStream(sanitizedFilename);
+			int i = fis.read();
+			fis.close();
+			return i;
+		} catch (final java.lang.Throwable $ex) {
+			throw lombok.Lombok.sneakyThrow($ex);
 		}
 	}
 }
\ No newline at end of file
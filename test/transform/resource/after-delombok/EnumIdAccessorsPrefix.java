@@ -21,10 +21,25 @@ class EnumIdAccessorsPrefix {
 		
 		@java.lang.SuppressWarnings("all")
 		public static Status findByCode(final int code) {
-			if ($CODE_LOOKUP.containsKey(code)) {
-				return $CODE_LOOKUP.get(code);
+			final Status $result = findByCodeOrNull(code);
+			if ($result == null) {
+				throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
 			}
-			throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
+			return $result;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCodeOrNull(final int code) {
+			return $CODE_LOOKUP.get(code);
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCodeOrDefault(final int code, final Status fallback) {
+			final Status $result = findByCodeOrNull(code);
+			if ($result == null) {
+				return fallback;
+			}
+			return $result;
 		}
 		
 		@java.lang.SuppressWarnings("all")
@@ -0,0 +1,71 @@
+class EnumIdString {
+	public enum Status {
+		WAITING("W"),
+		READY("RDY"),
+		SKIPPED("SKP"),
+		COMPLETED("DONE");
+		
+		private final String code;
+		
+		@java.lang.SuppressWarnings("all")
+		private Status(final String code) {
+			this.code = code;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCode(final String code) {
+			final Status $result = findByCodeOrNull(code);
+			if ($result == null) {
+				throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
+			}
+			return $result;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCodeOrNull(final String code) {
+			if (code != null) {
+				switch (code.length()) {
+				case 1: 
+					if ("W".equals(code)) {
+						return Status.WAITING;
+					}
+					break;
+				case 3: 
+					switch (code.charAt(0)) {
+					case 'R': 
+						if ("RDY".equals(code)) {
+							return Status.READY;
+						}
+						break;
+					case 'S': 
+						if ("SKP".equals(code)) {
+							return Status.SKIPPED;
+						}
+						break;
+					}
+					break;
+				case 4: 
+					if ("DONE".equals(code)) {
+						return Status.COMPLETED;
+					}
+					break;
+				}
+			}
+			return null;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCodeOrDefault(final String code, final Status fallback) {
+			final Status $result = findByCodeOrNull(code);
+			if ($result == null) {
+				return fallback;
+			}
+			return $result;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public String getCode() {
+			return this.code;
+		}
+	}
+}
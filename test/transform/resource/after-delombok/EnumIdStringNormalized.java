@@ -0,0 +1,48 @@
+class EnumIdStringNormalized {
+	public enum Status {
+		WAITING("w"),
+		READY("rdy");
+		
+		private static final java.util.Map<java.lang.String, Status> $CODE_LOOKUP = new java.util.HashMap<java.lang.String, Status>();
+		private final String code;
+		
+		private Status(String code) {
+			code = code.toUpperCase();
+			this.code = code;
+		}
+		
+		static {
+			for (Status status : Status.values()) {
+				$CODE_LOOKUP.put(status.code, status);
+			}
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCode(final String code) {
+			final Status $result = findByCodeOrNull(code);
+			if ($result == null) {
+				throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
+			}
+			return $result;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCodeOrNull(final String code) {
+			return $CODE_LOOKUP.get(code);
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public static Status findByCodeOrDefault(final String code, final Status fallback) {
+			final Status $result = findByCodeOrNull(code);
+			if ($result == null) {
+				return fallback;
+			}
+			return $result;
+		}
+		
+		@java.lang.SuppressWarnings("all")
+		public String getCode() {
+			return this.code;
+		}
+	}
+}
@@ -1,13 +1,14 @@
 public class FunctionAndVal {
+	private static final lombok.Functions.Function0<String> $needsMoreVal = new lombok.Functions.Function0<String>(){
+		
+		public String apply() {
+			final java.lang.String part = "String";
+			return part;
+		}
+	};
 	
 	@java.lang.SuppressWarnings("all")
 	private static lombok.Functions.Function0<String> needsMoreVal() {
-		return new lombok.Functions.Function0<String>(){
-			
-			public String apply() {
-				final java.lang.String part = "String";
-				return part;
-			}
-		};
+		return $needsMoreVal;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+class FunctionJavaUtil {
+	private static final java.util.function.IntUnaryOperator $square = new java.util.function.IntUnaryOperator(){
+		
+		public int applyAsInt(final int i) {
+			return i * i;
+		}
+	};
+	private static final java.util.function.LongFunction<String> $describe = new java.util.function.LongFunction<String>(){
+		
+		public String apply(final long l) {
+			return "#" + l;
+		}
+	};
+	private static final java.util.function.Consumer<String> $print = new java.util.function.Consumer<String>(){
+		
+		public void accept(final String s) {
+			System.out.println(s);
+		}
+	};
+	private static final java.util.function.DoublePredicate $isPositive = new java.util.function.DoublePredicate(){
+		
+		public boolean test(final double d) {
+			return d > 0.0;
+		}
+	};
+	
+	@java.lang.SuppressWarnings("all")
+	public static java.util.function.IntUnaryOperator square() {
+		return $square;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static java.util.function.LongFunction<String> describe() {
+		return $describe;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public java.util.function.Function<String, String> concat(final String _suffix) {
+		return new java.util.function.Function<String, String>(){
+			
+			public String apply(final String s) {
+				return s + _suffix;
+			}
+		};
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static java.util.function.Consumer<String> print() {
+		return $print;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static java.util.function.DoublePredicate isPositive() {
+		return $isPositive;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+class FunctionJavaUtilNoMatch {
+	
+	public static String join(String a, String b, String c) {
+		return a + b + c;
+	}
+}
\ No newline at end of file
@@ -1,6 +1,18 @@
 import lombok.Functions.Function1;
 
 class FunctionPlain {
+	private static final lombok.Functions.Function1<java.lang.Float, java.lang.Float> $sqrt = new lombok.Functions.Function1<java.lang.Float, java.lang.Float>(){
+		
+		public java.lang.Float apply(final java.lang.Float f) {
+			return (float)Math.sqrt(f);
+		}
+	};
+	private static final lombok.Functions.Function2<float[], double[], int[]> $testArrays = new lombok.Functions.Function2<float[], double[], int[]>(){
+		
+		public int[] apply(final float[] a, final double[] b) {
+			return null;
+		}
+	};
 	
 	@java.lang.SuppressWarnings("all")
 	public static lombok.Functions.Function1<String, java.lang.Boolean> startsWith(final String _prefix) {
@@ -20,12 +32,7 @@ class FunctionPlain {
 	
 	@java.lang.SuppressWarnings("all")
 	public static lombok.Functions.Function1<java.lang.Float, java.lang.Float> sqrt() {
-		return new lombok.Functions.Function1<java.lang.Float, java.lang.Float>(){
-			
-			public java.lang.Float apply(final java.lang.Float f) {
-				return (float)Math.sqrt(f);
-			}
-		};
+		return $sqrt;
 	}
 	
 	@java.lang.SuppressWarnings("all")
@@ -41,11 +48,6 @@ class FunctionPlain {
 	
 	@java.lang.SuppressWarnings("all")
 	public static lombok.Functions.Function2<float[], double[], int[]> testArrays() {
-		return new lombok.Functions.Function2<float[], double[], int[]>(){
-			
-			public int[] apply(final float[] a, final double[] b) {
-				return null;
-			}
-		};
+		return $testArrays;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+class FunctionPrimitive {
+	private static final lombok.Functions.IntToIntFunction1 $square = new lombok.Functions.IntToIntFunction1(){
+		
+		public int apply(final int i) {
+			return i * i;
+		}
+	};
+	private static final lombok.Functions.LongFunction1<String> $describe = new lombok.Functions.LongFunction1<String>(){
+		
+		public String apply(final long l) {
+			return "#" + l;
+		}
+	};
+	private static final lombok.Predicates.DoublePredicate1 $isPositive = new lombok.Predicates.DoublePredicate1(){
+		
+		public boolean evaluate(final double d) {
+			return d > 0.0;
+		}
+	};
+	
+	@java.lang.SuppressWarnings("all")
+	public static lombok.Functions.IntToIntFunction1 square() {
+		return $square;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static lombok.Functions.LongFunction1<String> describe() {
+		return $describe;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public lombok.Functions.IntToIntFunction1 plus(final int _offset) {
+		return new lombok.Functions.IntToIntFunction1(){
+			
+			public int apply(final int i) {
+				return i + _offset;
+			}
+		};
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public static lombok.Predicates.DoublePredicate1 isPositive() {
+		return $isPositive;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+class LockOptimisticUndeclared {
+	private String value;
+	
+	public String get() {
+		return value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+class LockStriped {
+	private final java.util.concurrent.locks.ReadWriteLock[] counterLock = $stripedLocks(4);
+	private final Map<String, Integer> counters = new ConcurrentHashMap<String, Integer>();
+	
+	@java.lang.SuppressWarnings("all")
+	public void put(final String key, final Integer value) {
+		final java.util.concurrent.locks.ReadWriteLock $lock = this.counterLock[$stripeOf(key, this.counterLock.length)];
+		$lock.writeLock().lock();
+		try {
+			counters.put(key, value);
+		} finally {
+			$lock.writeLock().unlock();
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public Integer get(final String key) {
+		final java.util.concurrent.locks.ReadWriteLock $lock = this.counterLock[$stripeOf(key, this.counterLock.length)];
+		$lock.readLock().lock();
+		try {
+			return counters.get(key);
+		} finally {
+			$lock.readLock().unlock();
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private java.util.concurrent.locks.ReadWriteLock[] $stripedLocks(final int stripes) {
+		final java.util.concurrent.locks.ReadWriteLock[] locks = new java.util.concurrent.locks.ReadWriteLock[stripes];
+		int i = 0;
+		while (i < stripes) {
+			locks[i] = new java.util.concurrent.locks.ReentrantReadWriteLock();
+			i = i + 1;
+		}
+		return locks;
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private int $stripeOf(final java.lang.Object key, final int stripes) {
+		if (key == null) {
+			return 0;
+		}
+		final int hash = key.hashCode();
+		return ((hash ^ hash >>> 16) & java.lang.Integer.MAX_VALUE) % stripes;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+import java.util.concurrent.TimeUnit;
+class LockTimeout {
+	private final java.util.concurrent.locks.ReadWriteLock countLock = new java.util.concurrent.locks.ReentrantReadWriteLock();
+	private int count;
+	
+	@java.lang.SuppressWarnings("all")
+	public void increment() {
+		try {
+			if (!this.countLock.writeLock().tryLock(250L, java.util.concurrent.TimeUnit.MICROSECONDS)) {
+				throw new BusyException("Could not acquire \'countLock\' within 250 microseconds.");
+			}
+		} catch (final java.lang.InterruptedException $e) {
+			java.lang.Thread.currentThread().interrupt();
+			throw new java.lang.RuntimeException($e);
+		}
+		try {
+			count++;
+		} finally {
+			this.countLock.writeLock().unlock();
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public int get() {
+		try {
+			if (!this.countLock.readLock().tryLock(10L, java.util.concurrent.TimeUnit.MILLISECONDS)) {
+				return this.unknownCount();
+			}
+		} catch (final java.lang.InterruptedException $e) {
+			java.lang.Thread.currentThread().interrupt();
+			throw new java.lang.RuntimeException($e);
+		}
+		try {
+			return count;
+		} finally {
+			this.countLock.readLock().unlock();
+		}
+	}
+	
+	private int unknownCount() {
+		return 0;
+	}
+	
+	static class BusyException extends RuntimeException {
+		BusyException(final String message) {
+			super(message);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+class RethrowStackless {
+	
+	@java.lang.SuppressWarnings("all")
+	void testStackless() {
+		try {
+			throw new java.io.IOException();
+		} catch (final java.io.IOException $e1) {
+			throw new $StacklessIllegalStateException($e1.toString(), $e1);
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	void testStacklessWithMessage(String name) {
+		try {
+			throw new java.io.IOException();
+		} catch (final java.io.IOException $e1) {
+			throw new $StacklessIllegalStateException(java.lang.String.format("%s failed.", name), $e1);
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	void testStacklessWithLazyMessage(String name) {
+		try {
+			throw new java.io.IOException();
+		} catch (final java.io.IOException $e1) {
+			throw new $StacklessLazyIllegalArgumentException("%s is invalid.", new java.lang.Object[]{name}, $e1);
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static final class $StacklessIllegalStateException extends java.lang.IllegalStateException {
+		
+		$StacklessIllegalStateException(final java.lang.String message, final java.lang.Throwable cause) {
+			super(message, cause);
+		}
+		
+		public java.lang.Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private static final class $StacklessLazyIllegalArgumentException extends java.lang.IllegalArgumentException {
+		private final java.lang.String format;
+		private final java.lang.Object[] arguments;
+		
+		$StacklessLazyIllegalArgumentException(final java.lang.String format, final java.lang.Object[] arguments, final java.lang.Throwable cause) {
+			super(format, cause);
+			this.format = format;
+			this.arguments = arguments;
+		}
+		
+		public java.lang.String getMessage() {
+			return java.lang.String.format(this.format, this.arguments);
+		}
+		
+		public java.lang.Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+}
\ No newline at end of file
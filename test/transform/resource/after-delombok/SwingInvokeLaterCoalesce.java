@@ -0,0 +1,34 @@
+class SwingInvokeLaterCoalesce {
+	@java.lang.SuppressWarnings("all")
+	private final java.util.concurrent.atomic.AtomicReference<java.lang.Object[]> $updatePending = new java.util.concurrent.atomic.AtomicReference<java.lang.Object[]>();
+	@java.lang.SuppressWarnings("all")
+	private final java.lang.Runnable $updateRunnable = new java.lang.Runnable(){
+		
+		@java.lang.Override
+		@java.lang.SuppressWarnings("all")
+		public void run() {
+			final java.lang.Object[] $args = $updatePending.getAndSet(null);
+			if ($args != null) {
+				$update((String)$args[0], (java.lang.Integer)$args[1]);
+			}
+		}
+	};
+	private final javax.swing.JLabel label = new javax.swing.JLabel();
+	
+	@java.lang.SuppressWarnings("all")
+	void update(final String text, final int count) {
+		if (java.awt.EventQueue.isDispatchThread()) {
+			$updatePending.set(null);
+			$update(text, count);
+		} else {
+			if ($updatePending.getAndSet(new java.lang.Object[]{text, count}) == null) {
+				java.awt.EventQueue.invokeLater($updateRunnable);
+			}
+		}
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	private void $update(final String text, final int count) {
+		label.setText(text + count);
+	}
+}
\ No newline at end of file
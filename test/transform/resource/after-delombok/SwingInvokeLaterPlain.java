@@ -26,7 +26,12 @@ class SwingInvokeLaterPlain {
 		if (title == null) {
 			throw new java.lang.NullPointerException(java.lang.String.format("The validated object \'%s\' (argument #%s) is null", "title", 1));
 		}
-		final String sanitizedTitle = java.text.Normalizer.normalize(title, java.text.Normalizer.Form.NFKC);
+		final String sanitizedTitle;
+		if (java.text.Normalizer.isNormalized(title, java.text.Normalizer.Form.NFKC)) {
+			sanitizedTitle = title;
+		} else {
+			sanitizedTitle = java.text.Normalizer.normalize(title, java.text.Normalizer.Form.NFKC);
+		}
 		final java.lang.Runnable $test2Runnable = new java.lang.Runnable(){
 			@java.lang.Override
 			public void run() {
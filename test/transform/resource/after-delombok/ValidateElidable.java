@@ -0,0 +1,26 @@
+class ValidateElidable {
+	private static final boolean $elideValidation = java.lang.Boolean.getBoolean("app.trusted");
+	
+	@java.lang.SuppressWarnings("all")
+	public void set(final String s) {
+		if (!$elideValidation) {
+			if (s == null) {
+				throw new java.lang.NullPointerException(java.lang.String.format("The validated object \'%s\' (argument #%s) is null", "s", 1));
+			}
+		}
+		System.out.println(s);
+	}
+	
+	@java.lang.SuppressWarnings("all")
+	public void add(final String s) {
+		if (!$elideValidation) {
+			if (s == null) {
+				throw new java.lang.NullPointerException(java.lang.String.format("The validated object \'%s\' (argument #%s) is null", "s", 1));
+			}
+			if (s.isEmpty()) {
+				throw new java.lang.IllegalArgumentException(java.lang.String.format("The validated object \'%s\' (argument #%s) is empty", "s", 1));
+			}
+		}
+		System.out.println(s);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+class ValidateElidableInner {
+	
+	@lombok.Validate.Elidable("app.trusted")
+	class Inner {
+		
+		@java.lang.SuppressWarnings("all")
+		public void set(final String s) {
+			if (s == null) {
+				throw new java.lang.NullPointerException(java.lang.String.format("The validated object \'%s\' (argument #%s) is null", "s", 1));
+			}
+			System.out.println(s);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+import java.util.Iterator;
+
+class YieldAsync {
+	
+	@java.lang.SuppressWarnings("all")
+	public Iterator<String> simple() {
+		
+		class $YielderSimple implements java.util.Iterator<java.lang.String>, java.io.Closeable {
+			private int $state;
+			private boolean $hasNext;
+			private boolean $nextDefined;
+			private java.lang.String $next;
+			
+			private $YielderSimple() {
+			}
+			
+			public boolean hasNext() {
+				if (!$nextDefined) {
+					$hasNext = getNext();
+					$nextDefined = true;
+				}
+				return $hasNext;
+			}
+			
+			public java.lang.String next() {
+				if (!hasNext()) {
+					throw new java.util.NoSuchElementException();
+				}
+				$nextDefined = false;
+				return $next;
+			}
+			
+			public void remove() {
+				throw new java.lang.UnsupportedOperationException();
+			}
+			
+			public void close() {
+				$state = 2;
+			}
+			
+			private boolean getNext() {
+				while (true) switch ($state) {
+				case 0: 
+					$state = 1;
+				case 1: 
+					$next = "A String";
+					$state = 2;
+					return true;
+				case 2: 
+				default: 
+					return false;
+				}
+			}
+		}
+		return lombok.Yield.asyncIterator(new $YielderSimple(), 256, 16);
+	}
+}
\ No newline at end of file
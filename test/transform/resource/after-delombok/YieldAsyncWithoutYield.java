@@ -0,0 +1,10 @@
+import java.util.Collections;
+import java.util.Iterator;
+
+class YieldAsyncWithoutYield {
+	private String value;
+	
+	public Iterator<String> values() {
+		return Collections.singletonList(value).iterator();
+	}
+}
@@ -0,0 +1,87 @@
+import java.util.PrimitiveIterator;
+
+class YieldPrimitive {
+	
+	@java.lang.SuppressWarnings("all")
+	public PrimitiveIterator.OfLong fib() {
+		
+		class $YielderFib implements java.util.PrimitiveIterator.OfLong, java.io.Closeable {
+			private long a;
+			private long b;
+			private long c;
+			private int $state;
+			private boolean $hasNext;
+			private boolean $nextDefined;
+			private long $next;
+			
+			private $YielderFib() {
+			}
+			
+			public boolean hasNext() {
+				if (!$nextDefined) {
+					$hasNext = getNext();
+					$nextDefined = true;
+				}
+				return $hasNext;
+			}
+			
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new java.util.NoSuchElementException();
+				}
+				$nextDefined = false;
+				return $next;
+			}
+			
+			public java.lang.Long next() {
+				return nextLong();
+			}
+			
+			public void forEachRemaining(final java.util.function.LongConsumer $action) {
+				if ($nextDefined) {
+					$nextDefined = false;
+					if ($hasNext) {
+						$action.accept($next);
+					}
+				}
+				while (getNext()) $action.accept($next);
+			}
+			
+			public void remove() {
+				throw new java.lang.UnsupportedOperationException();
+			}
+			
+			public void close() {
+				$state = 4;
+			}
+			
+			private boolean getNext() {
+				while (true) switch ($state) {
+				case 0: 
+					$state = 1;
+				case 1: 
+					a = 0;
+					b = 1;
+				case 2: 
+					if (!(b >= 0)) {
+						$state = 4;
+						continue;
+					}
+					$next = a;
+					$state = 3;
+					return true;
+				case 3: 
+					c = a + b;
+					a = b;
+					b = c;
+					$state = 2;
+					continue;
+				case 4: 
+				default: 
+					return false;
+				}
+			}
+		}
+		return new $YielderFib();
+	}
+}
\ No newline at end of file
@@ -2,11 +2,7 @@ import lombok.Actions.Action1;
 import lombok.Action;
 import lombok.Validate.NotNull;
 class ActionPlain {
-  ActionPlain() {
-    super();
-  }
-  public static @Action @java.lang.SuppressWarnings("all") lombok.Actions.Action0 testAction0() {
-    return new lombok.Actions.Action0() {
+  private static final lombok.Actions.Action0 $testAction0 = new lombok.Actions.Action0() {
   x() {
     super();
   }
@@ -14,27 +10,43 @@ class ActionPlain {
     System.out.println("Action0");
   }
 };
+  private static final lombok.Actions.Action1<java.lang.Float> $sqrt = new lombok.Actions.Action1<java.lang.Float>() {
+  x() {
+    super();
   }
-  public static @Action @java.lang.SuppressWarnings("all") lombok.Actions.Action1<String> startsWith(final String _prefix) {
-    return new lombok.Actions.Action1<String>() {
+  public void apply(final java.lang.Float f) {
+    Math.sqrt(f);
+  }
+};
+  private static final lombok.Actions.Action2<float[], double[]> $testArrays = new lombok.Actions.Action2<float[], double[]>() {
   x() {
     super();
   }
-  public void apply(final String string) {
-    string.startsWith(_prefix);
+  public void apply(final float[] a, final double[] b) {
+    return ;
   }
 };
+  <clinit>() {
   }
-  public static @Action @java.lang.SuppressWarnings("all") lombok.Actions.Action1<java.lang.Float> sqrt() {
-    return new lombok.Actions.Action1<java.lang.Float>() {
+  ActionPlain() {
+    super();
+  }
+  public static @Action @java.lang.SuppressWarnings("all") lombok.Actions.Action0 testAction0() {
+    return $testAction0;
+  }
+  public static @Action @java.lang.SuppressWarnings("all") lombok.Actions.Action1<String> startsWith(final String _prefix) {
+    return new lombok.Actions.Action1<String>() {
   x() {
     super();
   }
-  public void apply(final java.lang.Float f) {
-    Math.sqrt(f);
+  public void apply(final String string) {
+    string.startsWith(_prefix);
   }
 };
   }
+  public static @Action @java.lang.SuppressWarnings("all") lombok.Actions.Action1<java.lang.Float> sqrt() {
+    return $sqrt;
+  }
   public static @Action @java.lang.SuppressWarnings("all") <T>lombok.Actions.Action2<T, Action1<T>> notNull() {
     return new lombok.Actions.Action2<T, Action1<T>>() {
   x() {
@@ -51,13 +63,6 @@ class ActionPlain {
 };
   }
   public static @Action @java.lang.SuppressWarnings("all") lombok.Actions.Action2<float[], double[]> testArrays() {
-    return new lombok.Actions.Action2<float[], double[]>() {
-  x() {
-    super();
-  }
-  public void apply(final float[] a, final double[] b) {
-    return ;
-  }
-};
+    return $testArrays;
   }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+@lombok.Builder(buildAll = true) class BuilderBuildAll {
+  public static @java.lang.SuppressWarnings("all") interface NameDef {
+    public OptionalDef name(final String name);
+  }
+  public static @java.lang.SuppressWarnings("all") interface OptionalDef {
+    public OptionalDef count(final int count);
+    public BuilderBuildAll build();
+  }
+  private static @java.lang.SuppressWarnings("all") class $Builder implements NameDef, OptionalDef {
+    private String name;
+    private int count = $countDefault();
+    static int $countDefault() {
+      return 1;
+    }
+    public OptionalDef name(final String name) {
+      this.name = name;
+      return this;
+    }
+    public OptionalDef count(final int count) {
+      this.count = count;
+      return this;
+    }
+    public BuilderBuildAll build() {
+      return new BuilderBuildAll(this);
+    }
+    private $Builder() {
+      super();
+    }
+  }
+  private final String name;
+  private int count = $Builder.$countDefault();
+  private @java.lang.SuppressWarnings("all") BuilderBuildAll(final $Builder builder) {
+    super();
+    this.name = builder.name;
+    this.count = builder.count;
+  }
+  public static @java.lang.SuppressWarnings("all") NameDef builderBuildAll() {
+    return new $Builder();
+  }
+  public static @java.lang.SuppressWarnings("all") BuilderBuildAll[] buildAll(final String[] name, final int[] count) {
+    return buildAll(name, count, new BuilderBuildAll[name.length]);
+  }
+  public static @java.lang.SuppressWarnings("all") BuilderBuildAll[] buildAll(final String[] name, final int[] count, final BuilderBuildAll[] $result) {
+    final $Builder $builder = new $Builder();
+    int $i = 0;
+    while (($i < $result.length))      {
+        $builder.name = name[$i];
+        $builder.count = count[$i];
+        $result[$i] = new BuilderBuildAll($builder);
+        $i = ($i + 1);
+      }
+    return $result;
+  }
+}
\ No newline at end of file
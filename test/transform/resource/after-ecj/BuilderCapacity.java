@@ -0,0 +1,97 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+@lombok.Builder(transferCollections = true) class BuilderCapacity {
+  public static @java.lang.SuppressWarnings("all") interface OptionalDef {
+    public OptionalDef name(final String arg0);
+    public OptionalDef names(final java.util.Collection<? extends String> arg0);
+    public OptionalDef count(final String arg0, final Integer arg1);
+    public OptionalDef counts(final java.util.Map<? extends String, ? extends Integer> arg0);
+    public OptionalDef tag(final String arg0);
+    public OptionalDef tags(final java.util.Collection<? extends String> arg0);
+    public OptionalDef label(final String arg0);
+    public OptionalDef labels(final java.util.Collection<? extends String> arg0);
+    public BuilderCapacity build();
+  }
+  private static @java.lang.SuppressWarnings("all") class $Builder implements OptionalDef {
+    private List<String> names = $namesBuffer();
+    private Map<String, Integer> counts = $countsBuffer();
+    private Set<String> tags = $tagsDefault();
+    private Set<String> labels = $labelsDefault();
+    static List<String> $namesDefault() {
+      return new java.util.ArrayList<String>();
+    }
+    static List<String> $namesBuffer() {
+      return new java.util.ArrayList<String>(1024);
+    }
+    static Map<String, Integer> $countsDefault() {
+      return new java.util.HashMap<String, Integer>();
+    }
+    static Map<String, Integer> $countsBuffer() {
+      return new java.util.HashMap<String, Integer>(22);
+    }
+    static Set<String> $tagsDefault() {
+      return new java.util.HashSet<String>();
+    }
+    static Set<String> $labelsDefault() {
+      return new java.util.TreeSet<String>();
+    }
+    public OptionalDef name(final String arg0) {
+      this.names.add(arg0);
+      return this;
+    }
+    public OptionalDef names(final java.util.Collection<? extends String> arg0) {
+      this.names.addAll(arg0);
+      return this;
+    }
+    public OptionalDef count(final String arg0, final Integer arg1) {
+      this.counts.put(arg0, arg1);
+      return this;
+    }
+    public OptionalDef counts(final java.util.Map<? extends String, ? extends Integer> arg0) {
+      this.counts.putAll(arg0);
+      return this;
+    }
+    public OptionalDef tag(final String arg0) {
+      this.tags.add(arg0);
+      return this;
+    }
+    public OptionalDef tags(final java.util.Collection<? extends String> arg0) {
+      this.tags.addAll(arg0);
+      return this;
+    }
+    public OptionalDef label(final String arg0) {
+      this.labels.add(arg0);
+      return this;
+    }
+    public OptionalDef labels(final java.util.Collection<? extends String> arg0) {
+      this.labels.addAll(arg0);
+      return this;
+    }
+    public BuilderCapacity build() {
+      final BuilderCapacity built = new BuilderCapacity(this);
+      this.names = $namesBuffer();
+      this.counts = $countsBuffer();
+      this.tags = $tagsDefault();
+      this.labels = $labelsDefault();
+      return built;
+    }
+    private $Builder() {
+      super();
+    }
+  }
+  private final @lombok.Builder.Capacity(1024) List<String> names;
+  private @lombok.Builder.Capacity(16) Map<String, Integer> counts = $Builder.$countsDefault();
+  private Set<String> tags = $Builder.$tagsDefault();
+  private @lombok.Builder.Capacity(8) Set<String> labels = $Builder.$labelsDefault();
+  private @java.lang.SuppressWarnings("all") BuilderCapacity(final $Builder builder) {
+    super();
+    this.names = builder.names;
+    this.counts = builder.counts;
+    this.tags = builder.tags;
+    this.labels = builder.labels;
+  }
+  public static @java.lang.SuppressWarnings("all") OptionalDef builderCapacity() {
+    return new $Builder();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+import java.util.List;
+@lombok.Builder(reusable = true) class BuilderReusable {
+  public static @java.lang.SuppressWarnings("all") interface NameDef {
+    public OptionalDef name(final String name);
+    public NameDef reset();
+  }
+  public static @java.lang.SuppressWarnings("all") interface OptionalDef {
+    public OptionalDef count(final int count);
+    public OptionalDef tag(final String arg0);
+    public OptionalDef tags(final java.util.Collection<? extends String> arg0);
+    public BuilderReusable build();
+    public NameDef reset();
+  }
+  private static @java.lang.SuppressWarnings("all") class $Builder implements NameDef, OptionalDef {
+    private String name;
+    private static final int $countDefaultValue = $countDefault();
+    private int count = $countDefaultValue;
+    private List<String> tags = $tagsDefault();
+    <clinit>() {
+    }
+    static int $countDefault() {
+      return 1;
+    }
+    static List<String> $tagsDefault() {
+      return new java.util.ArrayList<String>();
+    }
+    public OptionalDef name(final String name) {
+      this.name = name;
+      return this;
+    }
+    public OptionalDef count(final int count) {
+      this.count = count;
+      return this;
+    }
+    public OptionalDef tag(final String arg0) {
+      this.tags.add(arg0);
+      return this;
+    }
+    public OptionalDef tags(final java.util.Collection<? extends String> arg0) {
+      this.tags.addAll(arg0);
+      return this;
+    }
+    public BuilderReusable build() {
+      return new BuilderReusable(this);
+    }
+    public NameDef reset() {
+      this.name = null;
+      this.count = $countDefaultValue;
+      this.tags.clear();
+      return this;
+    }
+    private $Builder() {
+      super();
+    }
+  }
+  private static final java.lang.ThreadLocal<$Builder> $reusableBuilder = new java.lang.ThreadLocal<$Builder>() {
+  x() {
+    super();
+  }
+  protected $Builder initialValue() {
+    return new $Builder();
+  }
+};
+  private final String name;
+  private int count = $Builder.$countDefault();
+  private final List<String> tags = $Builder.$tagsDefault();
+  <clinit>() {
+  }
+  private @java.lang.SuppressWarnings("all") BuilderReusable(final $Builder builder) {
+    super();
+    this.name = builder.name;
+    this.count = builder.count;
+    this.tags.addAll(builder.tags);
+  }
+  public static @java.lang.SuppressWarnings("all") NameDef builderReusable() {
+    return new $Builder();
+  }
+  public static @java.lang.SuppressWarnings("all") NameDef reusableBuilderReusable() {
+    return $reusableBuilder.get().reset();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+class ConditionInvalidOptions {
+  private final java.util.concurrent.locks.Lock lock = new java.util.concurrent.locks.ReentrantLock();
+  private volatile boolean paused;
+  ConditionInvalidOptions() {
+    super();
+  }
+  @lombok.Signal(value = "canResume",lockName = "lock",ifWaiters = true) void unpause() {
+    paused = false;
+  }
+  @lombok.Await(conditionName = "canResume",conditionMethod = "isPaused",interruptible = true) void pause() {
+  }
+  private boolean isPaused() {
+    return paused;
+  }
+}
@@ -18,11 +18,23 @@ class EnumIdPlain {
     <clinit>() {
     }
     public static @java.lang.SuppressWarnings("all") Status findByCode(final int code) {
-      if ($CODE_LOOKUP.containsKey(code))
+      final Status $result = findByCodeOrNull(code);
+      if (($result == null))
           {
-            return $CODE_LOOKUP.get(code);
+            throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
           }
-      throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
+      return $result;
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCodeOrNull(final int code) {
+      return $CODE_LOOKUP.get(code);
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCodeOrDefault(final int code, final Status fallback) {
+      final Status $result = findByCodeOrNull(code);
+      if (($result == null))
+          {
+            return fallback;
+          }
+      return $result;
     }
     public @java.lang.SuppressWarnings("all") int getCode() {
       return this.code;
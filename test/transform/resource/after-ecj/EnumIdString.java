@@ -0,0 +1,76 @@
+import lombok.EnumId;
+import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+class EnumIdString {
+  public @RequiredArgsConstructor enum Status {
+    WAITING("W"),
+    READY("RDY"),
+    SKIPPED("SKP"),
+    COMPLETED("DONE"),
+    private final @EnumId @Getter String code;
+    <clinit>() {
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCode(final String code) {
+      final Status $result = findByCodeOrNull(code);
+      if (($result == null))
+          {
+            throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
+          }
+      return $result;
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCodeOrNull(final String code) {
+      if ((code != null))
+          {
+            switch (code.length()) {
+            case 1 : ;
+                if ("W".equals(code))
+                    {
+                      return Status.WAITING;
+                    }
+                break ;
+            case 3 : ;
+                switch (code.charAt(0)) {
+                case 'R' : ;
+                    if ("RDY".equals(code))
+                        {
+                          return Status.READY;
+                        }
+                    break ;
+                case 'S' : ;
+                    if ("SKP".equals(code))
+                        {
+                          return Status.SKIPPED;
+                        }
+                    break ;
+                }
+                break ;
+            case 4 : ;
+                if ("DONE".equals(code))
+                    {
+                      return Status.COMPLETED;
+                    }
+                break ;
+            }
+          }
+      return null;
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCodeOrDefault(final String code, final Status fallback) {
+      final Status $result = findByCodeOrNull(code);
+      if (($result == null))
+          {
+            return fallback;
+          }
+      return $result;
+    }
+    public @java.lang.SuppressWarnings("all") String getCode() {
+      return this.code;
+    }
+    private @java.lang.SuppressWarnings("all") Status(final String code) {
+      super();
+      this.code = code;
+    }
+  }
+  EnumIdString() {
+    super();
+  }
+}
\ No newline at end of file
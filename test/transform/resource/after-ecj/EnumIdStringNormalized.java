@@ -0,0 +1,48 @@
+import lombok.EnumId;
+import lombok.Getter;
+class EnumIdStringNormalized {
+  public enum Status {
+    WAITING("w"),
+    READY("rdy"),
+    private static final java.util.Map<java.lang.String, Status> $CODE_LOOKUP = new java.util.HashMap<java.lang.String, Status>();
+    private final @EnumId @Getter String code;
+    static {
+      for (Status status : Status.values()) 
+        {
+          $CODE_LOOKUP.put(status.code, status);
+        }
+    }
+    private Status(String code) {
+      super();
+      code = code.toUpperCase();
+      this.code = code;
+    }
+    <clinit>() {
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCode(final String code) {
+      final Status $result = findByCodeOrNull(code);
+      if (($result == null))
+          {
+            throw new java.lang.IllegalArgumentException(java.lang.String.format("Enumeration \'Status\' has no value for \'code = %s\'", code));
+          }
+      return $result;
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCodeOrNull(final String code) {
+      return $CODE_LOOKUP.get(code);
+    }
+    public static @java.lang.SuppressWarnings("all") Status findByCodeOrDefault(final String code, final Status fallback) {
+      final Status $result = findByCodeOrNull(code);
+      if (($result == null))
+          {
+            return fallback;
+          }
+      return $result;
+    }
+    public @java.lang.SuppressWarnings("all") String getCode() {
+      return this.code;
+    }
+  }
+  EnumIdStringNormalized() {
+    super();
+  }
+}
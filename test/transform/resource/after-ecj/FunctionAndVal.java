@@ -1,11 +1,7 @@
 import lombok.Function;
 import lombok.val;
 public class FunctionAndVal {
-  public FunctionAndVal() {
-    super();
-  }
-  private static @Function @java.lang.SuppressWarnings("all") lombok.Functions.Function0<String> needsMoreVal() {
-    return new lombok.Functions.Function0<String>() {
+  private static final lombok.Functions.Function0<String> $needsMoreVal = new lombok.Functions.Function0<String>() {
   x() {
     super();
   }
@@ -14,5 +10,12 @@ public class FunctionAndVal {
     return part;
   }
 };
+  <clinit>() {
+  }
+  public FunctionAndVal() {
+    super();
+  }
+  private static @Function @java.lang.SuppressWarnings("all") lombok.Functions.Function0<String> needsMoreVal() {
+    return $needsMoreVal;
   }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+import lombok.Action;
+import lombok.Function;
+import lombok.Predicate;
+class FunctionJavaUtil {
+  private static final java.util.function.IntUnaryOperator $square = new java.util.function.IntUnaryOperator() {
+  x() {
+    super();
+  }
+  public int applyAsInt(final int i) {
+    return (i * i);
+  }
+};
+  private static final java.util.function.LongFunction<String> $describe = new java.util.function.LongFunction<String>() {
+  x() {
+    super();
+  }
+  public String apply(final long l) {
+    return ("#" + l);
+  }
+};
+  private static final java.util.function.Consumer<String> $print = new java.util.function.Consumer<String>() {
+  x() {
+    super();
+  }
+  public void accept(final String s) {
+    System.out.println(s);
+  }
+};
+  private static final java.util.function.DoublePredicate $isPositive = new java.util.function.DoublePredicate() {
+  x() {
+    super();
+  }
+  public boolean test(final double d) {
+    return (d > 0.0);
+  }
+};
+  <clinit>() {
+  }
+  FunctionJavaUtil() {
+    super();
+  }
+  public static @Function(javaUtilFunction = true) @java.lang.SuppressWarnings("all") java.util.function.IntUnaryOperator square() {
+    return $square;
+  }
+  public static @Function(javaUtilFunction = true) @java.lang.SuppressWarnings("all") java.util.function.LongFunction<String> describe() {
+    return $describe;
+  }
+  public @Function(javaUtilFunction = true) @java.lang.SuppressWarnings("all") java.util.function.Function<String, String> concat(final String _suffix) {
+    return new java.util.function.Function<String, String>() {
+  x() {
+    super();
+  }
+  public String apply(final String s) {
+    return (s + _suffix);
+  }
+};
+  }
+  public static @Action(javaUtilFunction = true) @java.lang.SuppressWarnings("all") java.util.function.Consumer<String> print() {
+    return $print;
+  }
+  public static @Predicate(javaUtilFunction = true) @java.lang.SuppressWarnings("all") java.util.function.DoublePredicate isPositive() {
+    return $isPositive;
+  }
+}
\ No newline at end of file
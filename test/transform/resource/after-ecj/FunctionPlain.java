@@ -2,6 +2,24 @@ import lombok.Functions.Function1;
 import lombok.Function;
 import lombok.Validate.NotNull;
 class FunctionPlain {
+  private static final lombok.Functions.Function1<java.lang.Float, java.lang.Float> $sqrt = new lombok.Functions.Function1<java.lang.Float, java.lang.Float>() {
+  x() {
+    super();
+  }
+  public java.lang.Float apply(final java.lang.Float f) {
+    return (float) Math.sqrt(f);
+  }
+};
+  private static final lombok.Functions.Function2<float[], double[], int[]> $testArrays = new lombok.Functions.Function2<float[], double[], int[]>() {
+  x() {
+    super();
+  }
+  public int[] apply(final float[] a, final double[] b) {
+    return null;
+  }
+};
+  <clinit>() {
+  }
   FunctionPlain() {
     super();
   }
@@ -24,14 +42,7 @@ class FunctionPlain {
 };
   }
   public static @Function @java.lang.SuppressWarnings("all") lombok.Functions.Function1<java.lang.Float, java.lang.Float> sqrt() {
-    return new lombok.Functions.Function1<java.lang.Float, java.lang.Float>() {
-  x() {
-    super();
-  }
-  public java.lang.Float apply(final java.lang.Float f) {
-    return (float) Math.sqrt(f);
-  }
-};
+    return $sqrt;
   }
   public static @Function @java.lang.SuppressWarnings("all") <T>lombok.Functions.Function2<T, Function1<T, T>, java.lang.Void> notNull() {
     return new lombok.Functions.Function2<T, Function1<T, T>, java.lang.Void>() {
@@ -46,13 +57,6 @@ class FunctionPlain {
 };
   }
   public static @Function @java.lang.SuppressWarnings("all") lombok.Functions.Function2<float[], double[], int[]> testArrays() {
-    return new lombok.Functions.Function2<float[], double[], int[]>() {
-  x() {
-    super();
-  }
-  public int[] apply(final float[] a, final double[] b) {
-    return null;
-  }
-};
+    return $testArrays;
   }
 }
\ No newline at end of file
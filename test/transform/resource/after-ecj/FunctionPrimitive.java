@@ -0,0 +1,52 @@
+import lombok.Function;
+import lombok.Predicate;
+class FunctionPrimitive {
+  private static final lombok.Functions.IntToIntFunction1 $square = new lombok.Functions.IntToIntFunction1() {
+  x() {
+    super();
+  }
+  public int apply(final int i) {
+    return (i * i);
+  }
+};
+  private static final lombok.Functions.LongFunction1<String> $describe = new lombok.Functions.LongFunction1<String>() {
+  x() {
+    super();
+  }
+  public String apply(final long l) {
+    return ("#" + l);
+  }
+};
+  private static final lombok.Predicates.DoublePredicate1 $isPositive = new lombok.Predicates.DoublePredicate1() {
+  x() {
+    super();
+  }
+  public boolean evaluate(final double d) {
+    return (d > 0.0);
+  }
+};
+  <clinit>() {
+  }
+  FunctionPrimitive() {
+    super();
+  }
+  public static @Function @java.lang.SuppressWarnings("all") lombok.Functions.IntToIntFunction1 square() {
+    return $square;
+  }
+  public static @Function @java.lang.SuppressWarnings("all") lombok.Functions.LongFunction1<String> describe() {
+    return $describe;
+  }
+  public @Function @java.lang.SuppressWarnings("all") lombok.Functions.IntToIntFunction1 plus(final int _offset) {
+    return new lombok.Functions.IntToIntFunction1() {
+  x() {
+    super();
+  }
+  public int apply(final int i) {
+    return (i + _offset);
+  }
+};
+  }
+  public static @Predicate @java.lang.SuppressWarnings("all") lombok.Predicates.DoublePredicate1 isPositive() {
+    return $isPositive;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+import java.util.Map;
+import java.util.HashMap;
+class LockOptimistic {
+  private final java.util.concurrent.locks.StampedLock dictionaryLock = new java.util.concurrent.locks.StampedLock();
+  private Map<String, String> dictionary = new HashMap<String, String>();
+  
+  LockOptimistic() {
+    super();
+  }
+  
+  public @lombok.WriteLock("dictionaryLock") @java.lang.SuppressWarnings("all") void put(final String key, final String value) {
+    final long $stamp = this.dictionaryLock.writeLock();
+    try 
+      {
+        dictionary.put(key, value);
+      }
+    finally
+      {
+        this.dictionaryLock.unlockWrite($stamp);
+      }
+  }
+  
+  public @lombok.ReadLock(value = "dictionaryLock",optimistic = true) @java.lang.SuppressWarnings("all") String get(final @lombok.Sanitize.With("checkKey") String key) {
+    final String sanitizedKey = checkKey(key);
+    final long $optimisticStamp = this.dictionaryLock.tryOptimisticRead();
+    if (($optimisticStamp != 0))
+        {
+          try 
+            {
+              final String $result = this.$get(sanitizedKey);
+              if (this.dictionaryLock.validate($optimisticStamp))
+                  {
+                    return $result;
+                  }
+            }
+          catch (final java.lang.RuntimeException $e)             {
+              if (this.dictionaryLock.validate($optimisticStamp))
+                  {
+                    throw $e;
+                  }
+            }
+        }
+    final long $stamp = this.dictionaryLock.readLock();
+    try 
+      {
+        return this.$get(sanitizedKey);
+      }
+    finally
+      {
+        this.dictionaryLock.unlockRead($stamp);
+      }
+  }
+  
+  private String checkKey(final String key) {
+    return key;
+  }
+  
+  private @java.lang.SuppressWarnings("all") String $get(final String sanitizedKey) {
+    return dictionary.get(sanitizedKey);
+  }
+}
\ No newline at end of file
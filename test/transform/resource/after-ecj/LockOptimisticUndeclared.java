@@ -0,0 +1,9 @@
+class LockOptimisticUndeclared {
+  private String value;
+  LockOptimisticUndeclared() {
+    super();
+  }
+  public @lombok.ReadLock(value = "valueLock",optimistic = true) String get() {
+    return value;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+class LockStriped {
+  private final java.util.concurrent.locks.ReadWriteLock[] counterLock = $stripedLocks(4);
+  private final Map<String, Integer> counters = new ConcurrentHashMap<String, Integer>();
+  
+  LockStriped() {
+    super();
+  }
+  
+  public @lombok.WriteLock(value = "counterLock",stripedBy = "key",stripes = 4) @java.lang.SuppressWarnings("all") void put(final String key, final Integer value) {
+    final java.util.concurrent.locks.ReadWriteLock $lock = this.counterLock[$stripeOf(key, this.counterLock.length)];
+    $lock.writeLock().lock();
+    try 
+      {
+        counters.put(key, value);
+      }
+    finally
+      {
+        $lock.writeLock().unlock();
+      }
+  }
+  
+  public @lombok.ReadLock(value = "counterLock",stripedBy = "key",stripes = 4) @java.lang.SuppressWarnings("all") Integer get(final String key) {
+    final java.util.concurrent.locks.ReadWriteLock $lock = this.counterLock[$stripeOf(key, this.counterLock.length)];
+    $lock.readLock().lock();
+    try 
+      {
+        return counters.get(key);
+      }
+    finally
+      {
+        $lock.readLock().unlock();
+      }
+  }
+  
+  private @java.lang.SuppressWarnings("all") java.util.concurrent.locks.ReadWriteLock[] $stripedLocks(final int stripes) {
+    final java.util.concurrent.locks.ReadWriteLock[] locks = new java.util.concurrent.locks.ReadWriteLock[stripes];
+    int i = 0;
+    while ((i < stripes))      {
+        locks[i] = new java.util.concurrent.locks.ReentrantReadWriteLock();
+        i = (i + 1);
+      }
+    return locks;
+  }
+  
+  private @java.lang.SuppressWarnings("all") int $stripeOf(final java.lang.Object key, final int stripes) {
+    if ((key == null))
+        {
+          return 0;
+        }
+    final int hash = key.hashCode();
+    return (((hash ^ (hash >>> 16)) & java.lang.Integer.MAX_VALUE) % stripes);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+import java.util.concurrent.TimeUnit;
+class LockTimeout {
+  static class BusyException extends RuntimeException {
+    BusyException(final String message) {
+      super(message);
+    }
+  }
+  private final java.util.concurrent.locks.ReadWriteLock countLock = new java.util.concurrent.locks.ReentrantReadWriteLock();
+  private int count;
+  
+  LockTimeout() {
+    super();
+  }
+  
+  public @lombok.WriteLock(value = "countLock",timeout = 250,unit = TimeUnit.MICROSECONDS,timeoutException = BusyException.class) @java.lang.SuppressWarnings("all") void increment() {
+    try 
+      {
+        if ((! this.countLock.writeLock().tryLock(250L, java.util.concurrent.TimeUnit.MICROSECONDS)))
+            {
+              throw new BusyException("Could not acquire \'countLock\' within 250 microseconds.");
+            }
+      }
+    catch (final java.lang.InterruptedException $e)       {
+        java.lang.Thread.currentThread().interrupt();
+        throw new java.lang.RuntimeException($e);
+      }
+    try 
+      {
+        count ++;
+      }
+    finally
+      {
+        this.countLock.writeLock().unlock();
+      }
+  }
+  
+  public @lombok.ReadLock(value = "countLock",timeout = 10,onTimeout = "unknownCount") @java.lang.SuppressWarnings("all") int get() {
+    try 
+      {
+        if ((! this.countLock.readLock().tryLock(10L, java.util.concurrent.TimeUnit.MILLISECONDS)))
+            {
+              return this.unknownCount();
+            }
+      }
+    catch (final java.lang.InterruptedException $e)       {
+        java.lang.Thread.currentThread().interrupt();
+        throw new java.lang.RuntimeException($e);
+      }
+    try 
+      {
+        return count;
+      }
+    finally
+      {
+        this.countLock.readLock().unlock();
+      }
+  }
+  
+  private int unknownCount() {
+    return 0;
+  }
+}
\ No newline at end of file
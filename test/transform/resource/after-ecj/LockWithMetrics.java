@@ -0,0 +1,66 @@
+class LockWithMetrics {
+  private final java.util.concurrent.locks.ReadWriteLock countLock = new java.util.concurrent.locks.ReentrantReadWriteLock();
+  private static final lombok.LockMetrics.Stats $countLockMetrics = lombok.LockMetrics.of("LockWithMetrics.countLock");
+  private final java.util.concurrent.locks.Lock $positiveLock = new java.util.concurrent.locks.ReentrantLock();
+  private static final lombok.LockMetrics.Stats $positiveLockMetrics = lombok.LockMetrics.of("LockWithMetrics.$positiveLock");
+  private final java.util.concurrent.locks.Condition positive = $positiveLock.newCondition();
+  private int count;
+  <clinit>() {
+  }
+  
+  LockWithMetrics() {
+    super();
+  }
+  
+  public @lombok.WriteLock(value = "countLock",metrics = true) @java.lang.SuppressWarnings("all") void increment() {
+    final long $requested = java.lang.System.nanoTime();
+    final boolean $uncontended = this.countLock.writeLock().tryLock();
+    if ((! $uncontended))
+        {
+          this.countLock.writeLock().lock();
+        }
+    final long $acquired = java.lang.System.nanoTime();
+    try 
+      {
+        count ++;
+      }
+    finally
+      {
+        this.countLock.writeLock().unlock();
+        $countLockMetrics.record((! $uncontended), ($acquired - $requested), (java.lang.System.nanoTime() - $acquired));
+      }
+  }
+  
+  public @lombok.Await(conditionName = "positive",conditionMethod = "isZero",metrics = true) @java.lang.SuppressWarnings("all") void decrement() {
+    final long $requested = java.lang.System.nanoTime();
+    final boolean $uncontended = this.$positiveLock.tryLock();
+    if ((! $uncontended))
+        {
+          this.$positiveLock.lock();
+        }
+    final long $acquired = java.lang.System.nanoTime();
+    long $awaitedNanos = 0L;
+    try 
+      {
+        final long $awaitStarted = java.lang.System.nanoTime();
+        try 
+          {
+            while (this.isZero())              this.positive.await();
+          }
+        catch (final java.lang.InterruptedException e)           {
+            throw new java.lang.RuntimeException(e);
+          }
+        $awaitedNanos = (java.lang.System.nanoTime() - $awaitStarted);
+        count --;
+      }
+    finally
+      {
+        this.$positiveLock.unlock();
+        $positiveLockMetrics.record((! $uncontended), ($acquired - $requested), ((java.lang.System.nanoTime() - $acquired) - $awaitedNanos));
+      }
+  }
+  
+  private boolean isZero() {
+    return (count == 0);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+class RethrowLazyMessage {
+  private static final @java.lang.SuppressWarnings("all") class $LazyIllegalStateException extends java.lang.IllegalStateException {
+    private final java.lang.String format;
+    private final java.lang.Object[] arguments;
+    $LazyIllegalStateException(final java.lang.String format, final java.lang.Object[] arguments, final java.lang.Throwable cause) {
+      super(format, cause);
+      this.format = format;
+      this.arguments = arguments;
+    }
+    public java.lang.String getMessage() {
+      return java.lang.String.format(this.format, this.arguments);
+    }
+  }
+  private static final @java.lang.SuppressWarnings("all") class $Lazyjava$util$ConcurrentModificationException extends java.util.ConcurrentModificationException {
+    private final java.lang.String format;
+    private final java.lang.Object[] arguments;
+    $Lazyjava$util$ConcurrentModificationException(final java.lang.String format, final java.lang.Object[] arguments, final java.lang.Throwable cause) {
+      super(format, cause);
+      this.format = format;
+      this.arguments = arguments;
+    }
+    public java.lang.String getMessage() {
+      return java.lang.String.format(this.format, this.arguments);
+    }
+  }
+  RethrowLazyMessage() {
+    super();
+  }
+  @lombok.Rethrow(value = java.io.IOException.class,as = java.lang.IllegalStateException.class,message = "$name failed.",lazyMessage = true) @java.lang.SuppressWarnings("all") void testLazyMessage(String name) {
+    try 
+      {
+        throw new java.io.IOException();
+      }
+    catch (final java.io.IOException $e1)       {
+        throw new $LazyIllegalStateException("%s failed.", new java.lang.Object[]{name}, $e1);
+      }
+  }
+  @lombok.Rethrow(value = java.io.IOException.class,as = java.util.ConcurrentModificationException.class,message = "$name was modified.",lazyMessage = true) @java.lang.SuppressWarnings("all") void testLazyMessageOutsideJavaLang(String name) {
+    try 
+      {
+        throw new java.io.IOException();
+      }
+    catch (final java.io.IOException $e1)       {
+        throw new $Lazyjava$util$ConcurrentModificationException("%s was modified.", new java.lang.Object[]{name}, $e1);
+      }
+  }
+}
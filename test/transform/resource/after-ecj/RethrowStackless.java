@@ -0,0 +1,55 @@
+class RethrowStackless {
+  private static final @java.lang.SuppressWarnings("all") class $StacklessIllegalStateException extends java.lang.IllegalStateException {
+    $StacklessIllegalStateException(final java.lang.String message, final java.lang.Throwable cause) {
+      super(message, cause);
+    }
+    public java.lang.Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+  private static final @java.lang.SuppressWarnings("all") class $StacklessLazyIllegalArgumentException extends java.lang.IllegalArgumentException {
+    private final java.lang.String format;
+    private final java.lang.Object[] arguments;
+    $StacklessLazyIllegalArgumentException(final java.lang.String format, final java.lang.Object[] arguments, final java.lang.Throwable cause) {
+      super(format, cause);
+      this.format = format;
+      this.arguments = arguments;
+    }
+    public java.lang.String getMessage() {
+      return java.lang.String.format(this.format, this.arguments);
+    }
+    public java.lang.Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+  RethrowStackless() {
+    super();
+  }
+  @lombok.Rethrow(value = java.io.IOException.class,as = java.lang.IllegalStateException.class,stackless = true) @java.lang.SuppressWarnings("all") void testStackless() {
+    try 
+      {
+        throw new java.io.IOException();
+      }
+    catch (final java.io.IOException $e1)       {
+        throw new $StacklessIllegalStateException($e1.toString(), $e1);
+      }
+  }
+  @lombok.Rethrow(value = java.io.IOException.class,as = java.lang.IllegalStateException.class,message = "$name failed.",stackless = true) @java.lang.SuppressWarnings("all") void testStacklessWithMessage(String name) {
+    try 
+      {
+        throw new java.io.IOException();
+      }
+    catch (final java.io.IOException $e1)       {
+        throw new $StacklessIllegalStateException(java.lang.String.format("%s failed.", name), $e1);
+      }
+  }
+  @lombok.Rethrow(value = java.io.IOException.class,as = java.lang.IllegalArgumentException.class,message = "$name is invalid.",stackless = true,lazyMessage = true) @java.lang.SuppressWarnings("all") void testStacklessWithLazyMessage(String name) {
+    try 
+      {
+        throw new java.io.IOException();
+      }
+    catch (final java.io.IOException $e1)       {
+        throw new $StacklessLazyIllegalArgumentException("%s is invalid.", new java.lang.Object[]{name}, $e1);
+      }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+class SwingInvokeLaterCoalesce {
+  private final @java.lang.SuppressWarnings("all") java.util.concurrent.atomic.AtomicReference<java.lang.Object[]> $updatePending = new java.util.concurrent.atomic.AtomicReference<java.lang.Object[]>();
+  private final @java.lang.SuppressWarnings("all") java.lang.Runnable $updateRunnable = new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public @java.lang.Override @java.lang.SuppressWarnings("all") void run() {
+    final java.lang.Object[] $args = $updatePending.getAndSet(null);
+    if (($args != null))
+        {
+          $update((String) $args[0], (java.lang.Integer) $args[1]);
+        }
+  }
+};
+  private final javax.swing.JLabel label = new javax.swing.JLabel();
+  SwingInvokeLaterCoalesce() {
+    super();
+  }
+  @lombok.SwingInvokeLater(coalesce = true) @java.lang.SuppressWarnings("all") void update(final String text, final int count) {
+    if (java.awt.EventQueue.isDispatchThread())
+        {
+          $updatePending.set(null);
+          $update(text, count);
+        }
+    else
+        {
+          if (($updatePending.getAndSet(new java.lang.Object[]{text, count}) == null))
+              {
+                java.awt.EventQueue.invokeLater($updateRunnable);
+              }
+        }
+  }
+  private @java.lang.SuppressWarnings("all") void $update(final String text, final int count) {
+    label.setText((text + count));
+  }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+@lombok.Validate.Elidable("app.trusted") class ValidateElidable {
+  private static final boolean $elideValidation = java.lang.Boolean.getBoolean("app.trusted");
+  <clinit>() {
+  }
+  ValidateElidable() {
+    super();
+  }
+  public @lombok.Validate @java.lang.SuppressWarnings("all") void set(final @lombok.Validate.NotNull String s) {
+    if ((! $elideValidation))
+        {
+          if ((s == null))
+              {
+                throw new java.lang.NullPointerException(java.lang.String.format("The validated object \'%s\' (argument #%s) is null", "s", 1));
+              }
+        }
+    System.out.println(s);
+  }
+  public @lombok.Validate @java.lang.SuppressWarnings("all") void add(final @lombok.Validate.NotEmpty String s) {
+    if ((! $elideValidation))
+        {
+          if ((s == null))
+              {
+                throw new java.lang.NullPointerException(java.lang.String.format("The validated object \'%s\' (argument #%s) is null", "s", 1));
+              }
+          if (s.isEmpty())
+              {
+                throw new java.lang.IllegalArgumentException(java.lang.String.format("The validated object \'%s\' (argument #%s) is empty", "s", 1));
+              }
+        }
+    System.out.println(s);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+class ValidateElidableInner {
+  @lombok.Validate.Elidable("app.trusted") class Inner {
+    Inner() {
+      super();
+    }
+    public @lombok.Validate @java.lang.SuppressWarnings("all") void set(final @lombok.Validate.NotNull String s) {
+      if ((s == null))
+          {
+            throw new java.lang.NullPointerException(java.lang.String.format("The validated object \'%s\' (argument #%s) is null", "s", 1));
+          }
+      System.out.println(s);
+    }
+  }
+  ValidateElidableInner() {
+    super();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+import static lombok.Yield.yield;
+import static lombok.Yield.yieldAll;
+class YieldAll {
+  YieldAll() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") Iterable<String> concat(final Iterable<String> first, final Iterable<String> second) {
+    class $YielderConcat extends lombok.Yield.Delegator<String> implements java.lang.Iterable<String> {
+      private int $state;
+      private $YielderConcat() {
+        super();
+      }
+      public java.util.Iterator<String> iterator() {
+        if (($state == 0))
+            {
+              $state = 1;
+              return this;
+            }
+        else
+            return new $YielderConcat();
+      }
+      public void close() {
+        closeDelegates();
+        $state = 4;
+      }
+      protected boolean getNext() {
+        while (true)          switch ($state) {
+          case 0 : ;
+              $state = 1;
+          case 1 : ;
+              delegateTo(first);
+              $state = 2;
+              return true;
+          case 2 : ;
+              $next = "-";
+              $state = 3;
+              return true;
+          case 3 : ;
+              delegateTo(second);
+              $state = 4;
+              return true;
+          case 4 : ;
+          default : ;
+              return false;
+          }
+      }
+    }
+    return new $YielderConcat();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+import static lombok.Yield.yield;
+import java.util.Iterator;
+import lombok.AsyncYield;
+class YieldAsync {
+  YieldAsync() {
+    super();
+  }
+  public @AsyncYield(capacity = 256,batch = 16) @java.lang.SuppressWarnings("all") Iterator<String> simple() {
+    class $YielderSimple implements java.util.Iterator<String>, java.io.Closeable {
+      private int $state;
+      private boolean $hasNext;
+      private boolean $nextDefined;
+      private String $next;
+      private $YielderSimple() {
+        super();
+      }
+      public boolean hasNext() {
+        if ((! $nextDefined))
+            {
+              $hasNext = getNext();
+              $nextDefined = true;
+            }
+        return $hasNext;
+      }
+      public String next() {
+        if ((! hasNext()))
+            {
+              throw new java.util.NoSuchElementException();
+            }
+        $nextDefined = false;
+        return $next;
+      }
+      public void remove() {
+        throw new java.lang.UnsupportedOperationException();
+      }
+      public void close() {
+        $state = 2;
+      }
+      private boolean getNext() {
+        while (true)          switch ($state) {
+          case 0 : ;
+              $state = 1;
+          case 1 : ;
+              $next = "A String";
+              $state = 2;
+              return true;
+          case 2 : ;
+          default : ;
+              return false;
+          }
+      }
+    }
+    return lombok.Yield.asyncIterator(new $YielderSimple(), 256, 16);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+import java.util.Collections;
+import java.util.Iterator;
+import lombok.AsyncYield;
+class YieldAsyncWithoutYield {
+  private String value;
+  YieldAsyncWithoutYield() {
+    super();
+  }
+  public @AsyncYield Iterator<String> values() {
+    return Collections.singletonList(value).iterator();
+  }
+}
@@ -0,0 +1,202 @@
+import static lombok.Yield.yield;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+class YieldSpliterator {
+  YieldSpliterator() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") Spliterator<Long> fib() {
+    class $YielderFib implements java.util.Iterator<Long>, java.util.Spliterator<Long>, java.io.Closeable {
+      private long a;
+      private long b;
+      private long c;
+      private int $state;
+      private boolean $hasNext;
+      private boolean $nextDefined;
+      private Long $next;
+      private $YielderFib() {
+        super();
+      }
+      public boolean hasNext() {
+        if ((! $nextDefined))
+            {
+              $hasNext = getNext();
+              $nextDefined = true;
+            }
+        return $hasNext;
+      }
+      public Long next() {
+        if ((! hasNext()))
+            {
+              throw new java.util.NoSuchElementException();
+            }
+        $nextDefined = false;
+        return $next;
+      }
+      public boolean tryAdvance(final java.util.function.Consumer<? super Long> $action) {
+        if ((! hasNext()))
+            {
+              return false;
+            }
+        $nextDefined = false;
+        $action.accept($next);
+        return true;
+      }
+      public void forEachRemaining(final java.util.function.Consumer<? super Long> $action) {
+        if ($nextDefined)
+            {
+              $nextDefined = false;
+              if ($hasNext)
+                  {
+                    $action.accept($next);
+                  }
+            }
+        while (getNext())          $action.accept($next);
+      }
+      public java.util.Spliterator<Long> trySplit() {
+        return null;
+      }
+      public long estimateSize() {
+        return java.lang.Long.MAX_VALUE;
+      }
+      public int characteristics() {
+        return java.util.Spliterator.ORDERED;
+      }
+      public void remove() {
+        throw new java.lang.UnsupportedOperationException();
+      }
+      public void close() {
+        $state = 4;
+      }
+      private boolean getNext() {
+        while (true)          switch ($state) {
+          case 0 : ;
+              $state = 1;
+          case 1 : ;
+              a = 0;
+              b = 1;
+          case 2 : ;
+              if ((! (b >= 0)))
+                  {
+                    $state = 4;
+                    continue ;
+                  }
+              $next = a;
+              $state = 3;
+              return true;
+          case 3 : ;
+              c = (a + b);
+              a = b;
+              b = c;
+              $state = 2;
+              continue ;
+          case 4 : ;
+          default : ;
+              return false;
+          }
+      }
+    }
+    return new $YielderFib();
+  }
+  public @java.lang.SuppressWarnings("all") Stream<Long> fibStream() {
+    class $YielderFibStream implements java.util.Iterator<Long>, java.util.Spliterator<Long>, java.io.Closeable {
+      private long a;
+      private long b;
+      private long c;
+      private int $state;
+      private boolean $hasNext;
+      private boolean $nextDefined;
+      private Long $next;
+      private $YielderFibStream() {
+        super();
+      }
+      public boolean hasNext() {
+        if ((! $nextDefined))
+            {
+              $hasNext = getNext();
+              $nextDefined = true;
+            }
+        return $hasNext;
+      }
+      public Long next() {
+        if ((! hasNext()))
+            {
+              throw new java.util.NoSuchElementException();
+            }
+        $nextDefined = false;
+        return $next;
+      }
+      public boolean tryAdvance(final java.util.function.Consumer<? super Long> $action) {
+        if ((! hasNext()))
+            {
+              return false;
+            }
+        $nextDefined = false;
+        $action.accept($next);
+        return true;
+      }
+      public void forEachRemaining(final java.util.function.Consumer<? super Long> $action) {
+        if ($nextDefined)
+            {
+              $nextDefined = false;
+              if ($hasNext)
+                  {
+                    $action.accept($next);
+                  }
+            }
+        while (getNext())          $action.accept($next);
+      }
+      public java.util.Spliterator<Long> trySplit() {
+        return null;
+      }
+      public long estimateSize() {
+        return java.lang.Long.MAX_VALUE;
+      }
+      public int characteristics() {
+        return java.util.Spliterator.ORDERED;
+      }
+      public void remove() {
+        throw new java.lang.UnsupportedOperationException();
+      }
+      public void close() {
+        $state = 4;
+      }
+      private boolean getNext() {
+        while (true)          switch ($state) {
+          case 0 : ;
+              $state = 1;
+          case 1 : ;
+              a = 0;
+              b = 1;
+          case 2 : ;
+              if ((! (b >= 0)))
+                  {
+                    $state = 4;
+                    continue ;
+                  }
+              $next = a;
+              $state = 3;
+              return true;
+          case 3 : ;
+              c = (a + b);
+              a = b;
+              b = c;
+              $state = 2;
+              continue ;
+          case 4 : ;
+          default : ;
+              return false;
+          }
+      }
+    }
+    final $YielderFibStream $yielder = new $YielderFibStream();
+    return java.util.stream.StreamSupport.stream($yielder, false).onClose(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public void run() {
+    $yielder.close();
+  }
+});
+  }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+import static lombok.Yield.yield;
+import java.util.stream.Stream;
+class YieldStreamFinally {
+  YieldStreamFinally() {
+    super();
+  }
+  public @java.lang.SuppressWarnings("all") Stream<String> test() {
+    class $YielderTest implements java.util.Iterator<String>, java.util.Spliterator<String>, java.io.Closeable {
+      private boolean b;
+      private RuntimeException e;
+      private java.lang.Throwable $yieldException1;
+      private int $state1;
+      private int $state;
+      private boolean $hasNext;
+      private boolean $nextDefined;
+      private String $next;
+      private $YielderTest() {
+        super();
+      }
+      public boolean hasNext() {
+        if ((! $nextDefined))
+            {
+              $hasNext = getNext();
+              $nextDefined = true;
+            }
+        return $hasNext;
+      }
+      public String next() {
+        if ((! hasNext()))
+            {
+              throw new java.util.NoSuchElementException();
+            }
+        $nextDefined = false;
+        return $next;
+      }
+      public boolean tryAdvance(final java.util.function.Consumer<? super String> $action) {
+        if ((! hasNext()))
+            {
+              return false;
+            }
+        $nextDefined = false;
+        $action.accept($next);
+        return true;
+      }
+      public void forEachRemaining(final java.util.function.Consumer<? super String> $action) {
+        if ($nextDefined)
+            {
+              $nextDefined = false;
+              if ($hasNext)
+                  {
+                    $action.accept($next);
+                  }
+            }
+        while (getNext())          $action.accept($next);
+      }
+      public java.util.Spliterator<String> trySplit() {
+        return null;
+      }
+      public long estimateSize() {
+        return java.lang.Long.MAX_VALUE;
+      }
+      public int characteristics() {
+        return java.util.Spliterator.ORDERED;
+      }
+      public void remove() {
+        throw new java.lang.UnsupportedOperationException();
+      }
+      public void close() {
+        do
+          switch ($state) {
+          case 5 : ;
+              $state1 = 6;
+              $state = 5;
+              continue ;
+          default : ;
+              $state = 6;
+              return ;
+          }
+while (getNext());
+      }
+      private boolean getNext() {
+        java.lang.Throwable $yieldException;
+        while (true)          {
+            try 
+              {
+                switch ($state) {
+                case 0 : ;
+                    $state = 1;
+                case 1 : ;
+                    b = true;
+                case 2 : ;
+                    $yieldException1 = null;
+                    $state1 = 2;
+                    $state = 3;
+                case 3 : ;
+                    if (b)
+                        {
+                          throw new RuntimeException();
+                        }
+                    $next = "bar";
+                    $state = 5;
+                    return true;
+                case 4 : ;
+                    $next = "foo";
+                    $state = 5;
+                    return true;
+                case 5 : ;
+                    {
+                      b = (! b);
+                    }
+                    if (($yieldException1 != null))
+                        {
+                          $yieldException = $yieldException1;
+                          break ;
+                        }
+                    $state = $state1;
+                    continue ;
+                case 6 : ;
+                default : ;
+                    return false;
+                }
+              }
+            catch (final java.lang.Throwable $yieldExceptionCaught)               {
+                $yieldException = $yieldExceptionCaught;
+              }
+            switch ($state) {
+            case 3 : ;
+                if (($yieldException instanceof RuntimeException))
+                    {
+                      e = (RuntimeException) $yieldException;
+                      $state = 4;
+                      continue ;
+                    }
+            case 4 : ;
+                $yieldException1 = $yieldException;
+                $state = 5;
+                continue ;
+            default : ;
+                $state = 6;
+                java.util.ConcurrentModificationException $yieldExceptionUnhandled = new java.util.ConcurrentModificationException();
+                $yieldExceptionUnhandled.initCause($yieldException);
+                throw $yieldExceptionUnhandled;
+            }
+          }
+      }
+    }
+    final $YielderTest $yielder = new $YielderTest();
+    return java.util.stream.StreamSupport.stream($yielder, false).onClose(new java.lang.Runnable() {
+  x() {
+    super();
+  }
+  public void run() {
+    $yielder.close();
+  }
+});
+  }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+@lombok.Builder(buildAll = true)
+class BuilderBuildAll {
+	private final String name;
+	private int count = 1;
+}
\ No newline at end of file
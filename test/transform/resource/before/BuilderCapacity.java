@@ -0,0 +1,14 @@
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@lombok.Builder(transferCollections = true)
+class BuilderCapacity {
+	@lombok.Builder.Capacity(1024)
+	private final List<String> names = new java.util.ArrayList<String>();
+	@lombok.Builder.Capacity(16)
+	private Map<String, Integer> counts = new java.util.HashMap<String, Integer>();
+	private Set<String> tags = new java.util.HashSet<String>();
+	@lombok.Builder.Capacity(8)
+	private Set<String> labels = new java.util.TreeSet<String>();
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+import java.util.List;
+
+@lombok.Builder(reusable = true)
+class BuilderReusable {
+	private final String name;
+	private int count = 1;
+	private final List<String> tags = new java.util.ArrayList<String>();
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+class ConditionSignalAll {
+	private volatile boolean paused;
+	
+	@lombok.Signal(value = "canResume", all = true, ifWaiters = true)
+	void unpause() {
+		paused = false;
+	}
+	
+	@lombok.Await(conditionName = "canResume", conditionMethod = "isPaused", interruptible = true)
+	void pause() throws InterruptedException {
+	}
+	
+	private boolean isPaused() {
+		return paused;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+import lombok.EnumId;
+import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+
+class EnumIdString {
+	@RequiredArgsConstructor
+	public enum Status {
+		WAITING("W"),
+		READY("RDY"),
+		SKIPPED("SKP"),
+		COMPLETED("DONE");
+		
+		@EnumId
+		@Getter
+		private final String code;
+	}
+}
\ No newline at end of file
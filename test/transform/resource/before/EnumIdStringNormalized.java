@@ -0,0 +1,18 @@
+import lombok.EnumId;
+import lombok.Getter;
+
+class EnumIdStringNormalized {
+	public enum Status {
+		WAITING("w"),
+		READY("rdy");
+		
+		@EnumId
+		@Getter
+		private final String code;
+		
+		private Status(String code) {
+			code = code.toUpperCase();
+			this.code = code;
+		}
+	}
+}
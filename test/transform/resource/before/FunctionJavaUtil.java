@@ -0,0 +1,31 @@
+import lombok.Action;
+import lombok.Function;
+import lombok.Predicate;
+
+class FunctionJavaUtil {
+
+	@Function(javaUtilFunction = true)
+	public static int square(int i) {
+		return i * i;
+	}
+
+	@Function(javaUtilFunction = true)
+	public static String describe(long l) {
+		return "#" + l;
+	}
+
+	@Function(javaUtilFunction = true)
+	public String concat(String s, String _suffix) {
+		return s + _suffix;
+	}
+
+	@Action(javaUtilFunction = true)
+	public static void print(String s) {
+		System.out.println(s);
+	}
+
+	@Predicate(javaUtilFunction = true)
+	public static boolean isPositive(double d) {
+		return d > 0.0;
+	}
+}
\ No newline at end of file
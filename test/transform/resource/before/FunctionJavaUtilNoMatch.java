@@ -0,0 +1,9 @@
+import lombok.Function;
+
+class FunctionJavaUtilNoMatch {
+
+	@Function(javaUtilFunction = true)
+	public static String join(String a, String b, String c) {
+		return a + b + c;
+	}
+}
\ No newline at end of file
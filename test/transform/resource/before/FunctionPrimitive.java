@@ -0,0 +1,25 @@
+import lombok.Function;
+import lombok.Predicate;
+
+class FunctionPrimitive {
+
+	@Function
+	public static int square(int i) {
+		return i * i;
+	}
+
+	@Function
+	public static String describe(long l) {
+		return "#" + l;
+	}
+
+	@Function
+	public int plus(int i, int _offset) {
+		return i + _offset;
+	}
+
+	@Predicate
+	public static boolean isPositive(double d) {
+		return d > 0.0;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+import java.util.Map;
+import java.util.HashMap;
+class LockOptimistic {
+	private final java.util.concurrent.locks.StampedLock dictionaryLock = new java.util.concurrent.locks.StampedLock();
+	private Map<String, String> dictionary = new HashMap<String, String>();
+	
+	@lombok.WriteLock("dictionaryLock")
+	public void put(final String key, final String value) {
+		dictionary.put(key, value);
+	}
+	
+	@lombok.ReadLock(value = "dictionaryLock", optimistic = true)
+	public String get(final @lombok.Sanitize.With("checkKey") String key) {
+		return dictionary.get(key);
+	}
+	
+	private String checkKey(final String key) {
+		// do something;
+		return key;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+class LockOptimisticUndeclared {
+	private String value;
+	
+	@lombok.ReadLock(value = "valueLock", optimistic = true)
+	public String get() {
+		return value;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+class LockStriped {
+	private final Map<String, Integer> counters = new ConcurrentHashMap<String, Integer>();
+	
+	@lombok.WriteLock(value = "counterLock", stripedBy = "key", stripes = 4)
+	public void put(final String key, final Integer value) {
+		counters.put(key, value);
+	}
+	
+	@lombok.ReadLock(value = "counterLock", stripedBy = "key", stripes = 4)
+	public Integer get(final String key) {
+		return counters.get(key);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+import java.util.concurrent.TimeUnit;
+class LockTimeout {
+	private int count;
+	
+	@lombok.WriteLock(value = "countLock", timeout = 250, unit = TimeUnit.MICROSECONDS, timeoutException = BusyException.class)
+	public void increment() {
+		count++;
+	}
+	
+	@lombok.ReadLock(value = "countLock", timeout = 10, onTimeout = "unknownCount")
+	public int get() {
+		return count;
+	}
+	
+	private int unknownCount() {
+		return 0;
+	}
+	
+	static class BusyException extends RuntimeException {
+		BusyException(final String message) {
+			super(message);
+		}
+	}
+}
\ No newline at end of file
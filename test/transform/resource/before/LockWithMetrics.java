@@ -0,0 +1,17 @@
+class LockWithMetrics {
+	private int count;
+	
+	@lombok.WriteLock(value = "countLock", metrics = true)
+	public void increment() {
+		count++;
+	}
+	
+	@lombok.Await(conditionName = "positive", conditionMethod = "isZero", metrics = true)
+	public void decrement() {
+		count--;
+	}
+	
+	private boolean isZero() {
+		return count == 0;
+	}
+}
\ No newline at end of file
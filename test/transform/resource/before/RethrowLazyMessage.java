@@ -0,0 +1,12 @@
+class RethrowLazyMessage {
+	
+	@lombok.Rethrow(value = java.io.IOException.class, as = java.lang.IllegalStateException.class, message = "$name failed.", lazyMessage = true)
+	void testLazyMessage(String name) {
+		throw new java.io.IOException();
+	}
+	
+	@lombok.Rethrow(value = java.io.IOException.class, as = java.util.ConcurrentModificationException.class, message = "$name was modified.", lazyMessage = true)
+	void testLazyMessageOutsideJavaLang(String name) {
+		throw new java.io.IOException();
+	}
+}
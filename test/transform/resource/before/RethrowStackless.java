@@ -0,0 +1,17 @@
+class RethrowStackless {
+	
+	@lombok.Rethrow(value = java.io.IOException.class, as = java.lang.IllegalStateException.class, stackless = true)
+	void testStackless() {
+		throw new java.io.IOException();
+	}
+	
+	@lombok.Rethrow(value = java.io.IOException.class, as = java.lang.IllegalStateException.class, message = "$name failed.", stackless = true)
+	void testStacklessWithMessage(String name) {
+		throw new java.io.IOException();
+	}
+	
+	@lombok.Rethrow(value = java.io.IOException.class, as = java.lang.IllegalArgumentException.class, message = "$name is invalid.", stackless = true, lazyMessage = true)
+	void testStacklessWithLazyMessage(String name) {
+		throw new java.io.IOException();
+	}
+}
\ No newline at end of file
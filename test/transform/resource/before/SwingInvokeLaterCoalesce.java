@@ -0,0 +1,8 @@
+class SwingInvokeLaterCoalesce {
+	private final javax.swing.JLabel label = new javax.swing.JLabel();
+	
+	@lombok.SwingInvokeLater(coalesce = true)
+	void update(final String text, final int count) {
+		label.setText(text + count);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+@lombok.Validate.Elidable("app.trusted")
+class ValidateElidable {
+	
+	@lombok.Validate
+	public void set(@lombok.Validate.NotNull final String s) {
+		System.out.println(s);
+	}
+	
+	@lombok.Validate
+	public void add(@lombok.Validate.NotEmpty final String s) {
+		System.out.println(s);
+	}
+}
\ No newline at end of file
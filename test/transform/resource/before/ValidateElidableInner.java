@@ -0,0 +1,11 @@
+class ValidateElidableInner {
+	
+	@lombok.Validate.Elidable("app.trusted")
+	class Inner {
+		
+		@lombok.Validate
+		public void set(@lombok.Validate.NotNull final String s) {
+			System.out.println(s);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+import static lombok.Yield.yield;
+import static lombok.Yield.yieldAll;
+
+class YieldAll {
+	public Iterable<String> concat(final Iterable<String> first, final Iterable<String> second) {
+		yieldAll(first);
+		yield("-");
+		yieldAll(second);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+import static lombok.Yield.yield;
+
+import java.util.Iterator;
+
+import lombok.AsyncYield;
+
+class YieldAsync {
+	@AsyncYield(capacity = 256, batch = 16)
+	public Iterator<String> simple() {
+		yield("A String");
+	}
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+import java.util.Collections;
+import java.util.Iterator;
+
+import lombok.AsyncYield;
+
+class YieldAsyncWithoutYield {
+	private String value;
+	
+	@AsyncYield
+	public Iterator<String> values() {
+		return Collections.singletonList(value).iterator();
+	}
+}
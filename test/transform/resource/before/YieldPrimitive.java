@@ -0,0 +1,16 @@
+import static lombok.Yield.yield;
+
+import java.util.PrimitiveIterator;
+
+class YieldPrimitive {
+	public PrimitiveIterator.OfLong fib() {
+		long a = 0;
+		long b = 1;
+		while (b >= 0) {
+			yield(a);
+			long c = a + b;
+			a = b;
+			b = c;
+		}
+	}
+}
\ No newline at end of file
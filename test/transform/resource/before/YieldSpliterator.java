@@ -0,0 +1,28 @@
+import static lombok.Yield.yield;
+
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+class YieldSpliterator {
+	public Spliterator<Long> fib() {
+		long a = 0;
+		long b = 1;
+		while (b >= 0) {
+			yield(a);
+			long c = a + b;
+			a = b;
+			b = c;
+		}
+	}
+	
+	public Stream<Long> fibStream() {
+		long a = 0;
+		long b = 1;
+		while (b >= 0) {
+			yield(a);
+			long c = a + b;
+			a = b;
+			b = c;
+		}
+	}
+}
\ No newline at end of file
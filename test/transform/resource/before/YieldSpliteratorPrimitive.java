@@ -0,0 +1,11 @@
+import static lombok.Yield.yield;
+
+import java.util.Spliterator;
+
+class YieldSpliteratorPrimitive {
+	public Spliterator.OfInt numbers() {
+		for (int i = 0; i < 10; i++) {
+			yield(i);
+		}
+	}
+}
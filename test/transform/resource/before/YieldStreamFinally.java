@@ -0,0 +1,21 @@
+import static lombok.Yield.yield;
+
+import java.util.stream.Stream;
+
+class YieldStreamFinally {
+	public Stream<String> test() {
+		boolean b = true;
+		while (true) {
+			try {
+				if (b) {
+					throw new RuntimeException();
+				}
+				yield("bar");
+			} catch(RuntimeException e) {
+				yield("foo");
+			} finally {
+				b = !b;
+			}
+		}
+	}
+}